@@ -6,9 +6,11 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -24,6 +26,10 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.state.State;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ImportingAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -44,10 +50,15 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookStorage backgroundAddressBookStorage;
     protected State state;
     protected Model model;
     protected Config config;
 
+    /** Whether the ui has been started, and a save failure to show once it is. Only used on the JavaFX thread. */
+    private boolean isUiStarted;
+    private IOException pendingSaveFailure;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -58,21 +69,56 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage formatStorage = initAddressBookStorage(config, userPrefs);
+        backgroundAddressBookStorage = new BackgroundAddressBookStorage(formatStorage, this::reportSaveFailure);
+        storage = new StorageManager(backgroundAddressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        state = new State();
-        state.addState(new AddressBook(model.getAddressBook()), "");
+        state = new State(config.getUndoHistoryLimit());
+        state.addState(model.getAddressBook(), "");
 
         logic = new LogicManager(model, storage, state);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Shows {@code failure} of a background save to the user on the JavaFX thread, or once the ui has been started if
+     * it has not been started yet. Called on the thread that saves in the background.
+     */
+    private void reportSaveFailure(IOException failure) {
+        try {
+            Platform.runLater(() -> {
+                if (isUiStarted) {
+                    ui.showFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + failure);
+                } else {
+                    pendingSaveFailure = failure;
+                }
+            });
+        } catch (IllegalStateException ise) {
+            logger.warning("Could not show save failure, as the JavaFX toolkit is not running");
+        }
+    }
+
+    /**
+     * Returns the storage of the address book in the format chosen in {@code config}.
+     * The address book is imported from the other format if it was saved in that format more recently.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(jsonFilePath));
+        AddressBookStorage binaryStorage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath)));
+
+        if (config.getStorageFormat() == StorageFormat.BINARY) {
+            return new ImportingAddressBookStorage(binaryStorage, jsonStorage);
+        }
+        return new ImportingAddressBookStorage(jsonStorage, binaryStorage);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,6 +220,11 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        isUiStarted = true;
+        if (pendingSaveFailure != null) {
+            ui.showFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + pendingSaveFailure);
+            pendingSaveFailure = null;
+        }
     }
 
     @Override
@@ -184,5 +235,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            backgroundAddressBookStorage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
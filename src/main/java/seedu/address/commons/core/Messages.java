@@ -9,6 +9,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PERSONS_BEING_LISTED = "Searching... matching persons will be listed shortly.";
     public static final String MESSAGE_INVALID_START_INDEX = "Start index must be "
             + "strictly smaller than the end index.";
     public static final String MESSAGE_INVALID_END_INDEX = "End index cannot be larger than the "
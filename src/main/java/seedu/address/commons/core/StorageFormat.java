@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book can be saved to the hard disk.
+ */
+public enum StorageFormat {
+    /** Human-readable Json, which can be edited by hand. */
+    JSON,
+    /** Compact binary, which is smaller and faster to read. */
+    BINARY
+}
@@ -2,19 +2,36 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,12 +39,18 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    /** Name of the field that holds the checksum of a file written by {@link #saveJsonArrayFile}. */
+    public static final String CHECKSUM_FIELD_NAME = "checksum";
+
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -76,6 +99,80 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the array held by the top-level field {@code fieldName} of the given Json file one element at a time,
+     * passing each element to {@code consumer} as soon as it is read, so that the array is never held in memory as a
+     * whole. Other top-level fields are skipped, and a missing or null field is treated as an empty array.
+     * If the file has a {@value #CHECKSUM_FIELD_NAME} field, as written by {@link #saveJsonArrayFile}, the file is
+     * only accepted if the checksum matches its content.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be read or its format is not as expected.
+     * @throws IllegalValueException if {@code consumer} rejects an element, or the checksum does not match.
+     */
+    public static <T> void readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        Long expectedChecksum = null;
+        long checksummedLength = -1;
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            requireToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(CHECKSUM_FIELD_NAME) && value == JsonToken.VALUE_NUMBER_INT) {
+                    expectedChecksum = parser.getLongValue();
+                    continue;
+                }
+                if (!name.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                requireToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                        throw new JsonParseException(parser, "Unexpected null element in " + fieldName);
+                    }
+                    consumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+                checksummedLength = parser.getTokenLocation().getByteOffset() + 1;
+            }
+            requireToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        if (expectedChecksum != null
+                && (checksummedLength < 0 || checksumOf(filePath, checksummedLength) != expectedChecksum)) {
+            throw new IllegalValueException("Checksum of " + filePath + " does not match its content");
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the first {@code length} bytes of the given file.
+     */
+    private static long checksumOf(Path filePath, long length) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            long remaining = length;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of " + filePath);
+                }
+                checksum.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private static void requireToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +188,57 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves {@code elements} to the specified file as a Json object whose field {@code fieldName} holds them as
+     * an array. Each element is converted with {@code adapter} and written as soon as it is converted, so neither the
+     * converted elements nor the Json text are ever held in memory as a whole.
+     * The array is followed by a {@value #CHECKSUM_FIELD_NAME} field holding the CRC-32 checksum of every byte up
+     * to the end of the array, and the file is forced to the storage device before this method returns.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param isCompact if true, the Json is written without line breaks or indentation.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String fieldName, Iterable<T> elements,
+            Function<? super T, ?> adapter, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(elements);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeJsonArray(Channels.newOutputStream(channel), fieldName, elements, adapter, isCompact);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code elements} to {@code out} as described in {@link #saveJsonArrayFile}, and flushes {@code out}
+     * once at the end. Elements are written through a buffer without flushing {@code out} in between, so that a
+     * large array takes a write per buffer rather than a write per element.
+     */
+    static <T> void writeJsonArray(OutputStream out, String fieldName, Iterable<T> elements,
+            Function<? super T, ?> adapter, boolean isCompact) throws IOException {
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        CheckedOutputStream checkedOut = new CheckedOutputStream(new BufferedOutputStream(out), new CRC32());
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(checkedOut, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (!isCompact) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(fieldName);
+        for (T element : elements) {
+            elementWriter.writeValue(generator, adapter.apply(element));
+        }
+        generator.writeEndArray();
+        generator.flush();
+        generator.writeNumberField(CHECKSUM_FIELD_NAME, checkedOut.getChecksum().getValue());
+        generator.writeEndObject();
+        generator.close();
+        checkedOut.flush();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +258,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact, single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayField(Path, String, Class, ElementConsumer)}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -13,7 +13,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -51,12 +50,16 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (command.isReadOnly()) {
+            return commandResult;
+        }
+
+        // the model has changed even if it cannot be saved, so it is recorded for undo first
+        if (!state.isCurrentState(model.getAddressBook()) || commandText.startsWith("sort")) {
+            state.addState(model.getAddressBook(), commandText);
+        }
         try {
             storage.saveAddressBook(model.getAddressBook());
-            AddressBook abCopy = new AddressBook(model.getAddressBook());
-            if (!abCopy.equals(state.getCurrentAddressBook()) || commandText.startsWith("sort")) {
-                state.addState(abCopy, commandText);
-            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
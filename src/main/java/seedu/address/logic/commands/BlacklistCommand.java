@@ -40,7 +40,7 @@ public class BlacklistCommand extends Command {
         requireNonNull(index);
 
         this.index = index;
-        this.blacklist = new Blacklist();
+        this.blacklist = Blacklist.NOT_BLACKLISTED;
     }
 
     @Override
@@ -67,7 +67,7 @@ public class BlacklistCommand extends Command {
         updateThisBlacklist(editedPerson);
 
         logger.log(Level.INFO, "Going to replace person in model");
-        model.setPerson(personToEdit, editedPerson);
+        model.setFilteredPerson(index, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         logger.log(Level.INFO, "Person replaced");
 
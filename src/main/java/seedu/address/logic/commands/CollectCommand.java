@@ -128,6 +128,11 @@ public class CollectCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
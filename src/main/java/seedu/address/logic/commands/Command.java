@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the address book, in which case the address book is neither
+     * saved nor recorded for undo after the command is executed.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -13,4 +13,9 @@ public class DarkCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_SUCCESS, false, false, false, true);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
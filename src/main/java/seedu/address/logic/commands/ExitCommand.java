@@ -16,4 +16,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false, false);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
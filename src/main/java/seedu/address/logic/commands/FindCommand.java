@@ -9,11 +9,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.QueryPlan;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.ModeOfContactPredicate;
@@ -52,6 +56,8 @@ public class FindCommand extends Command {
             + PREFIX_BLACKLIST + "true "
             + PREFIX_MODE_OF_CONTACT + "phone";
 
+    private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
+
     private Predicate<Person> namePredicate;
     private Predicate<Person> tagPredicate;
     private Predicate<Person> addressPredicate;
@@ -104,18 +110,22 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Person> finalPredicate = namePredicate
-                .and(tagPredicate)
-                .and(addressPredicate)
-                .and(emailPredicate)
-                .and(phonePredicate)
-                .and(blacklistPredicate)
-                .and(modeOfContactPredicate);
-        model.updateFilteredPersonList(finalPredicate);
+        QueryPlan plan = model.getPersonIndex().plan(List.of(namePredicate, tagPredicate,
+                addressPredicate, emailPredicate, phonePredicate, blacklistPredicate, modeOfContactPredicate));
+        model.updateFilteredPersonList(plan.execute());
+        logger.fine(plan.explain());
+        if (model.isFilteredPersonListPending()) {
+            return new CommandResult(Messages.MESSAGE_PERSONS_BEING_LISTED);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
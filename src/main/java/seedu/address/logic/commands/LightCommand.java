@@ -13,5 +13,10 @@ public class LightCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_SUCCESS, false, false, true, false);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
 
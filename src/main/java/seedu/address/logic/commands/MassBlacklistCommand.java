@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -11,8 +12,8 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Blacklists or unblacklists all persons within the specified index range (inclusive) in
- * the address book.
+ * Blacklists or unblacklists all persons within the specified index range (inclusive) of
+ * the displayed person list, or every person in the displayed person list.
  */
 public class MassBlacklistCommand extends Command {
 
@@ -22,8 +23,8 @@ public class MassBlacklistCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Blacklists or unblacklists all persons within the specified index range "
-            + "(inclusive).\n"
-            + "Parameters: START-END (both must be positive integers)"
+            + "(inclusive), or all listed persons.\n"
+            + "Parameters: START-END (both must be positive integers) or all"
             + " b/BLACKLIST_OR_UNBLACKLIST\n"
             + "Example: " + COMMAND_WORD + " 5-21 b/blacklist";
 
@@ -33,6 +34,13 @@ public class MassBlacklistCommand extends Command {
     public static final String MESSAGE_MASS_UNBLACKLIST_SUCCESS = "Successfully removed "
             + "all contacts within the index range %1$d-%2$d from the blacklist";
 
+    public static final String MESSAGE_MASS_BLACKLIST_ALL_SUCCESS = "Successfully blacklisted "
+            + "all %1$d listed persons";
+
+    public static final String MESSAGE_MASS_UNBLACKLIST_ALL_SUCCESS = "Successfully removed "
+            + "all %1$d listed persons from the blacklist";
+
+    // null if every person in the displayed person list is to be blacklisted or unblacklisted
     private final Index startIndex;
     private final Index endIndex;
     private final boolean toBlacklist;
@@ -47,6 +55,13 @@ public class MassBlacklistCommand extends Command {
         this.toBlacklist = toBlacklist;
     }
 
+    /**
+     * Creates a MassBlacklistCommand to blacklist or unblacklist every person in the displayed person list.
+     */
+    public MassBlacklistCommand(boolean toBlacklist) {
+        this(null, null, toBlacklist);
+    }
+
     /**
      * Returns true if the given string is a valid keyword (either blacklist or unblacklist) and
      * false otherwise.
@@ -59,6 +74,9 @@ public class MassBlacklistCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
+        if (startIndex == null) {
+            return executeOnAllListed(model, lastShownList.size());
+        }
         if (!Index.isValidIndexRange(startIndex, endIndex)) {
             throw new CommandException(Messages.MESSAGE_INVALID_START_INDEX);
         }
@@ -79,6 +97,16 @@ public class MassBlacklistCommand extends Command {
         return new CommandResult(outputMessage);
     }
 
+    private CommandResult executeOnAllListed(Model model, int count) {
+        if (count > 0 && toBlacklist) {
+            model.massBlacklist(1, count);
+        } else if (count > 0) {
+            model.massUnblacklist(1, count);
+        }
+        String messageFormat = toBlacklist ? MESSAGE_MASS_BLACKLIST_ALL_SUCCESS : MESSAGE_MASS_UNBLACKLIST_ALL_SUCCESS;
+        return new CommandResult(String.format(messageFormat, count));
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -88,8 +116,8 @@ public class MassBlacklistCommand extends Command {
         if (other instanceof MassBlacklistCommand) { // instanceof handles nulls
             MassBlacklistCommand otherBlacklistCommand = (MassBlacklistCommand) other;
             // state check
-            boolean isSameStartIndex = startIndex.equals(otherBlacklistCommand.startIndex);
-            boolean isSameEndIndex = endIndex.equals(otherBlacklistCommand.endIndex);
+            boolean isSameStartIndex = Objects.equals(startIndex, otherBlacklistCommand.startIndex);
+            boolean isSameEndIndex = Objects.equals(endIndex, otherBlacklistCommand.endIndex);
             boolean isSameKeyword = toBlacklist == otherBlacklistCommand.toBlacklist;
             return isSameStartIndex && isSameEndIndex && isSameKeyword;
         }
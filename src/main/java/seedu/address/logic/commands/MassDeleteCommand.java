@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -11,20 +12,25 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes all persons within the specified index range (inclusive) in the address book.
+ * Deletes all persons within the specified index range (inclusive) of the displayed person list,
+ * or every person in the displayed person list.
  */
 public class MassDeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "massdelete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes all persons within the specified index range (inclusive).\n"
-            + "Parameters: START-END (both must be positive integers) \n"
+            + ": Deletes all persons within the specified index range (inclusive), "
+            + "or all listed persons.\n"
+            + "Parameters: START-END (both must be positive integers) or all\n"
             + "Example: " + COMMAND_WORD + " 1-37";
 
     public static final String MESSAGE_MASS_DELETE_PERSON_SUCCESS = "Successfully deleted all "
             + "persons within the index range %1$d-%2$d";
 
+    public static final String MESSAGE_MASS_DELETE_ALL_SUCCESS = "Successfully deleted all %1$d listed persons";
+
+    // null if every person in the displayed person list is to be deleted
     private final Index startIndex;
     private final Index endIndex;
 
@@ -36,10 +42,24 @@ public class MassDeleteCommand extends Command {
         this.endIndex = endIndex;
     }
 
+    /**
+     * Creates a MassDeleteCommand to delete every person in the displayed person list.
+     */
+    public MassDeleteCommand() {
+        this(null, null);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
+        if (startIndex == null) {
+            int count = lastShownList.size();
+            if (count > 0) {
+                model.massDelete(1, count);
+            }
+            return new CommandResult(String.format(MESSAGE_MASS_DELETE_ALL_SUCCESS, count));
+        }
         if (!Index.isValidIndexRange(startIndex, endIndex)) {
             throw new CommandException(Messages.MESSAGE_INVALID_START_INDEX);
         }
@@ -61,8 +81,8 @@ public class MassDeleteCommand extends Command {
         }
         if (other instanceof MassDeleteCommand) { // instanceof handles nulls
             // state check
-            return startIndex.equals(((MassDeleteCommand) other).startIndex)
-                    && endIndex.equals(((MassDeleteCommand) other).endIndex);
+            return Objects.equals(startIndex, ((MassDeleteCommand) other).startIndex)
+                    && Objects.equals(endIndex, ((MassDeleteCommand) other).endIndex);
         }
         return false;
     }
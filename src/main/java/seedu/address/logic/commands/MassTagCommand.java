@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to all persons within the specified index range (inclusive) of the displayed person list,
+ * or to every person in the displayed person list.
+ */
+public class MassTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "masstag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the given tags to all persons within the specified index range (inclusive), "
+            + "or to all listed persons. Existing tags are kept.\n"
+            + "Parameters: START-END (both must be positive integers) or all "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " all " + PREFIX_TAG + "campaign";
+
+    public static final String MESSAGE_MASS_TAG_SUCCESS = "Successfully tagged "
+            + "all persons within the index range %1$d-%2$d";
+
+    public static final String MESSAGE_MASS_TAG_ALL_SUCCESS = "Successfully tagged all %1$d listed persons";
+
+    // null if every person in the displayed person list is to be tagged
+    private final Index startIndex;
+    private final Index endIndex;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a MassTagCommand to add {@code tags} to all persons within the specified index range (inclusive).
+     */
+    public MassTagCommand(Index startIndex, Index endIndex, Set<Tag> tags) {
+        requireNonNull(tags);
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    /**
+     * Creates a MassTagCommand to add {@code tags} to every person in the displayed person list.
+     */
+    public MassTagCommand(Set<Tag> tags) {
+        this(null, null, tags);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (startIndex == null) {
+            int count = lastShownList.size();
+            if (count > 0) {
+                model.massTag(1, count, tags);
+            }
+            return new CommandResult(String.format(MESSAGE_MASS_TAG_ALL_SUCCESS, count));
+        }
+        if (!Index.isValidIndexRange(startIndex, endIndex)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_START_INDEX);
+        }
+        int start = startIndex.getOneBased();
+        int end = endIndex.getOneBased();
+        assert start < end : "Start index must be strictly smaller than the end index";
+        if (end > lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_END_INDEX);
+        }
+        model.massTag(start, end, tags);
+        return new CommandResult(String.format(MESSAGE_MASS_TAG_SUCCESS, start, end));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MassTagCommand // instanceof handles nulls
+                && Objects.equals(startIndex, ((MassTagCommand) other).startIndex)
+                && Objects.equals(endIndex, ((MassTagCommand) other).endIndex)
+                && tags.equals(((MassTagCommand) other).tags)); // state check
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.predicates.ReturnTruePredicate;
+import seedu.address.model.state.State;
+
+/**
+ * Redoes the user operation most recently undone by {@code UndoCommand}.
+ * Undone operations can no longer be redone once another change is made to the address book.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Successfully redo the command: %1$s";
+
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is nothing to redo.";
+
+    private final State state;
+
+    public RedoCommand(State state) {
+        this.state = state;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (!this.state.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        String redoneCommand = state.getDeletedCommand();
+        this.state.restoreDeletedState();
+        model.setAddressBook(state.getCurrentAddressBook());
+        model.updateFilteredPersonList(new ReturnTruePredicate());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoneCommand));
+    }
+}
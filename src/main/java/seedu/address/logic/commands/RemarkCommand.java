@@ -57,7 +57,7 @@ public class RemarkCommand extends Command {
                 personToEdit.getAddress(), remark, personToEdit.getModeOfContact(), personToEdit.getBlacklist(),
                 personToEdit.getTags());
 
-        model.setPerson(personToEdit, editedPerson);
+        model.setFilteredPerson(index, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_CHANGE_REMARK_SUCCESS, editedPerson));
@@ -25,7 +25,7 @@ public class UndoCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        if (this.state.getPreviousState() == null) {
+        if (!this.state.canUndo()) {
             throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
         }
         String previousCommand = state.getCurrentCommand();
@@ -48,7 +48,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
         ModeOfContact modeofContact = ParserUtil.parseModeOfContact(argMultimap.getValue(PREFIX_MODE_OF_CONTACT).get());
-        Blacklist blacklist = new Blacklist(); // add command does not allow blacklisting straight away
+        Blacklist blacklist = Blacklist.NOT_BLACKLISTED; // add command does not allow blacklisting straight away
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         Person person = new Person(name, phone, email, address, modeofContact, blacklist, tagList);
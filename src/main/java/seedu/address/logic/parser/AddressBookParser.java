@@ -21,6 +21,8 @@ import seedu.address.logic.commands.LightCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MassBlacklistCommand;
 import seedu.address.logic.commands.MassDeleteCommand;
+import seedu.address.logic.commands.MassTagCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -77,6 +79,9 @@ public class AddressBookParser {
         case MassDeleteCommand.COMMAND_WORD:
             return new MassDeleteCommandParser().parse(arguments);
 
+        case MassTagCommand.COMMAND_WORD:
+            return new MassTagCommandParser().parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
@@ -101,6 +106,9 @@ public class AddressBookParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand(this.addressBookState);
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand(this.addressBookState);
+
         case LightCommand.COMMAND_WORD:
             return new LightCommand();
 
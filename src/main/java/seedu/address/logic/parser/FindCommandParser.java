@@ -108,7 +108,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String modeOfContact = modeOfContactChoice.get().split("\\s+")[0].toLowerCase();
             ModeOfContact actual;
             try {
-                actual = new ModeOfContact(modeOfContact);
+                actual = ModeOfContact.of(modeOfContact);
             } catch (IllegalArgumentException e) {
                 throw new ParseException("Mode of contact field only accepts phone, email or address.");
             }
@@ -26,8 +26,11 @@ public class MassBlacklistCommandParser implements Parser<MassBlacklistCommand>
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_BLACKLIST);
         try {
-            Pair<Index, Index> range = ParserUtil.parseRange(argMultimap.getPreamble());
             boolean toBlacklist = ParserUtil.parseBlacklistKeyword(argMultimap.getValue(PREFIX_BLACKLIST).get());
+            if (ParserUtil.isAllKeyword(argMultimap.getPreamble())) {
+                return new MassBlacklistCommand(toBlacklist);
+            }
+            Pair<Index, Index> range = ParserUtil.parseRange(argMultimap.getPreamble());
             return new MassBlacklistCommand(range.getKey(), range.getValue(), toBlacklist);
         } catch (ParseException | NoSuchElementException exception) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
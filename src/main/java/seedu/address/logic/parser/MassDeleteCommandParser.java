@@ -20,6 +20,9 @@ public class MassDeleteCommandParser implements Parser<MassDeleteCommand> {
      */
     public MassDeleteCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        if (ParserUtil.isAllKeyword(args)) {
+            return new MassDeleteCommand();
+        }
         try {
             Pair<Index, Index> range = ParserUtil.parseRange(args);
             return new MassDeleteCommand(range.getKey(), range.getValue());
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import javafx.util.Pair;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MassTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new MassTagCommand object.
+ */
+public class MassTagCommandParser implements Parser<MassTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MassTagCommand
+     * and returns a MassTagCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public MassTagCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        try {
+            Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+            if (tags.isEmpty()) {
+                throw new ParseException(MassTagCommand.MESSAGE_USAGE);
+            }
+            if (ParserUtil.isAllKeyword(argMultimap.getPreamble())) {
+                return new MassTagCommand(tags);
+            }
+            Pair<Index, Index> range = ParserUtil.parseRange(argMultimap.getPreamble());
+            return new MassTagCommand(range.getKey(), range.getValue(), tags);
+        } catch (ParseException parseException) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MassTagCommand.MESSAGE_USAGE), parseException);
+        }
+    }
+}
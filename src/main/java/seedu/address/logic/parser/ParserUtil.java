@@ -27,6 +27,7 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_INDEX_RANGE = "Invalid range format.";
+    public static final String ALL_KEYWORD = "all";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -157,7 +158,16 @@ public class ParserUtil {
         if (!ModeOfContact.isValidModeOfContact(trimmedModeOfContact)) {
             throw new ParseException(ModeOfContact.MESSAGE_CONSTRAINTS);
         }
-        return new ModeOfContact(trimmedModeOfContact);
+        return ModeOfContact.of(trimmedModeOfContact);
+    }
+
+    /**
+     * Returns true if {@code range} is {@code ALL_KEYWORD}, which selects every person in the displayed list.
+     * Leading and trailing whitespaces will be trimmed.
+     */
+    public static boolean isAllKeyword(String range) {
+        requireNonNull(range);
+        return range.trim().equals(ALL_KEYWORD);
     }
 
     /**
@@ -190,7 +200,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
@@ -16,6 +17,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Number of modifications made to this address book, bumped by every mutator. */
+    private long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -42,9 +46,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: uniqueness is checked in one pass and all duplicates are reported together.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -72,6 +78,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -83,6 +90,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the person at {@code position} of the person list with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    public void setPersonAt(int position, Person editedPerson) {
+        persons.setPersonAt(position, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -91,6 +108,32 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the person at {@code position} of the person list.
+     */
+    public void removePersonAt(int position) {
+        persons.removeAt(position);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the persons at {@code positions} of the person list.
+     */
+    public void removePersons(int[] positions) {
+        persons.removeAt(positions);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces each person at {@code positions} of the person list with the result of applying
+     * {@code transformation} to it, as a single change.
+     */
+    public void updatePersons(int[] positions, UnaryOperator<Person> transformation) {
+        persons.updatePersons(positions, transformation);
+        modificationCount++;
     }
 
     /**
@@ -101,6 +144,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortByName(boolean isAscending) {
         persons.sortByName(isAscending);
+        modificationCount++;
     }
 
     //// util methods
@@ -116,6 +160,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
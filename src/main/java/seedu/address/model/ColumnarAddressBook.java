@@ -0,0 +1,365 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Blacklist;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModeOfContact;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An immutable address book that stores its persons column by column instead of as {@code Person} objects.
+ * Names, phones and emails are kept as plain string arrays, addresses, remarks and tags are dictionary encoded,
+ * the mode of contact is kept as one byte per person and the blacklist status as one bit per person.
+ *
+ * Operations that only need one or two fields, such as counting blacklisted persons, can read the columns directly
+ * through the accessors below. The {@code Person} objects of {@link #getPersonList()} are created from the columns
+ * each time they are accessed and are not kept, so reading the list from several threads at once is safe.
+ *
+ * A {@link Builder} fills the columns field by field, so that a bulk load, such as reading a binary data file, does
+ * not create any {@code Person} until the persons are needed.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final ModeOfContact[] MODES_OF_CONTACT = {
+        ModeOfContact.PHONE, ModeOfContact.ADDRESS, ModeOfContact.EMAIL
+    };
+
+    private final int size;
+    private final String[] names;
+    private final String[] phones;
+    private final String[] emails;
+    private final DictionaryColumn addresses;
+    private final DictionaryColumn remarks;
+    private final byte[] modesOfContact;
+    private final BitSet blacklisted;
+
+    /** Codes of the tags of the person at position {@code i} are in {@code tagIds}, from {@code tagOffsets[i]}. */
+    private final int[] tagOffsets;
+    private final int[] tagIds;
+    private final Tag[] tagDictionary;
+
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a {@code ColumnarAddressBook} holding the persons in {@code toBeCopied}.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook toBeCopied) {
+        this(toBeCopied.getPersonList());
+    }
+
+    /**
+     * Creates a {@code ColumnarAddressBook} holding {@code persons}, in the same order.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    public ColumnarAddressBook(List<Person> persons) {
+        this(builderOf(persons));
+    }
+
+    private ColumnarAddressBook(Builder builder) {
+        builder.checkNoDuplicates();
+        size = builder.size;
+        names = builder.names;
+        phones = builder.phones;
+        emails = builder.emails;
+        addresses = builder.addresses;
+        remarks = builder.remarks;
+        modesOfContact = builder.modesOfContact;
+        blacklisted = builder.blacklisted;
+        tagOffsets = builder.tagOffsets;
+        tagIds = builder.tagIds.stream().mapToInt(Integer::intValue).toArray();
+        tagDictionary = builder.tags.toArray(new Tag[0]);
+        addresses.freeze();
+        remarks.freeze();
+
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonView()));
+    }
+
+    private static Builder builderOf(List<Person> persons) {
+        requireNonNull(persons);
+        Builder builder = new Builder(persons.size());
+        for (Person person : persons) {
+            builder.addPerson(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                    person.getAddress().value, person.getRemark().value, person.getModeOfContact(),
+                    person.getBlacklistStatus(), person.getTags());
+        }
+        return builder;
+    }
+
+    private static byte encode(ModeOfContact modeOfContact) {
+        for (byte i = 0; i < MODES_OF_CONTACT.length; i++) {
+            if (MODES_OF_CONTACT[i].equals(modeOfContact)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(ModeOfContact.MESSAGE_CONSTRAINTS);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int position) {
+        return names[position];
+    }
+
+    public String getPhone(int position) {
+        return phones[position];
+    }
+
+    public String getEmail(int position) {
+        return emails[position];
+    }
+
+    public String getAddress(int position) {
+        return addresses.get(position);
+    }
+
+    public String getRemark(int position) {
+        return remarks.get(position);
+    }
+
+    public ModeOfContact getModeOfContact(int position) {
+        return MODES_OF_CONTACT[modesOfContact[position]];
+    }
+
+    public boolean isBlacklisted(int position) {
+        return blacklisted.get(Objects.checkIndex(position, size));
+    }
+
+    /**
+     * Returns the positions of the persons whose blacklist status is {@code isBlacklisted}.
+     */
+    public BitSet findByBlacklistStatus(boolean isBlacklisted) {
+        BitSet matches = (BitSet) blacklisted.clone();
+        if (!isBlacklisted) {
+            matches.flip(0, size);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the positions of the persons whose mode of contact is {@code modeOfContact}.
+     */
+    public BitSet findByModeOfContact(ModeOfContact modeOfContact) {
+        byte code = encode(modeOfContact);
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (modesOfContact[i] == code) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the tags of the person at {@code position}.
+     */
+    public TagSet getTags(int position) {
+        List<Tag> tags = new ArrayList<>(tagOffsets[position + 1] - tagOffsets[position]);
+        for (int i = tagOffsets[position]; i < tagOffsets[position + 1]; i++) {
+            tags.add(tagDictionary[tagIds[i]]);
+        }
+        return TagSet.of(tags);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * A {@code ColumnarAddressBook} is never modified, so its modification count is always zero.
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    /**
+     * Creates the person at {@code position} from the columns.
+     */
+    private Person materialize(int position) {
+        return new Person(new Name(names[position]), new Phone(phones[position]), new Email(emails[position]),
+                new Address(addresses.get(position)), new Remark(remarks.get(position)),
+                getModeOfContact(position), Blacklist.of(blacklisted.get(position)), getTags(position));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ColumnarAddressBook // instanceof handles nulls
+                && personList.equals(((ColumnarAddressBook) other).personList));
+    }
+
+    @Override
+    public int hashCode() {
+        return personList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return personList.toString();
+    }
+
+    /**
+     * A read-only list of the persons, each created from the columns when it is accessed.
+     */
+    private class PersonView extends AbstractList<Person> {
+        @Override
+        public Person get(int position) {
+            return materialize(Objects.checkIndex(position, size));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Fills the columns of a {@code ColumnarAddressBook} one person at a time, in the order of the persons.
+     */
+    public static class Builder {
+        private final int size;
+        private final String[] names;
+        private final String[] phones;
+        private final String[] emails;
+        private final DictionaryColumn addresses;
+        private final DictionaryColumn remarks;
+        private final byte[] modesOfContact;
+        private final BitSet blacklisted;
+        private final int[] tagOffsets;
+        private final List<Integer> tagIds = new ArrayList<>();
+        private final Map<Tag, Integer> tagCodes = new HashMap<>();
+        private final List<Tag> tags = new ArrayList<>();
+        private int added;
+
+        /**
+         * Creates a {@code Builder} for an address book of exactly {@code size} persons.
+         */
+        public Builder(int size) {
+            assert size >= 0 : "Size cannot be negative";
+            this.size = size;
+            names = new String[size];
+            phones = new String[size];
+            emails = new String[size];
+            addresses = new DictionaryColumn(size);
+            remarks = new DictionaryColumn(size);
+            modesOfContact = new byte[size];
+            blacklisted = new BitSet(size);
+            tagOffsets = new int[size + 1];
+        }
+
+        /**
+         * Adds the person with the given fields after the persons added so far.
+         * The fields are checked as the constructors of the fields of a {@code Person} would check them.
+         *
+         * @throws IllegalArgumentException if any of the fields is invalid.
+         */
+        public Builder addPerson(String name, String phone, String email, String address, String remark,
+                ModeOfContact modeOfContact, boolean isBlacklisted, Collection<Tag> personTags) {
+            requireAllNonNull(name, phone, email, address, remark, modeOfContact, personTags);
+            checkArgument(added < size, "Builder is already full");
+            checkArgument(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            checkArgument(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            checkArgument(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            checkArgument(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+
+            int position = added++;
+            names[position] = name;
+            phones[position] = phone;
+            emails[position] = email;
+            addresses.set(position, address);
+            remarks.set(position, remark.isEmpty() ? Remark.DEFAULT_REMARK : remark);
+            modesOfContact[position] = encode(modeOfContact);
+            blacklisted.set(position, isBlacklisted);
+            for (Tag tag : personTags) {
+                tagIds.add(tagCodes.computeIfAbsent(tag, newTag -> {
+                    tags.add(newTag);
+                    return tags.size() - 1;
+                }));
+            }
+            tagOffsets[position + 1] = tagIds.size();
+            return this;
+        }
+
+        /**
+         * Returns the address book holding the persons added so far, which must be all {@code size} of them.
+         *
+         * @throws DuplicatePersonException if two persons have the same email.
+         */
+        public ColumnarAddressBook build() {
+            checkArgument(added == size, "Builder is missing persons");
+            return new ColumnarAddressBook(this);
+        }
+
+        private void checkNoDuplicates() {
+            Set<String> seen = new HashSet<>();
+            Set<Email> duplicateEmails = new LinkedHashSet<>();
+            for (String email : emails) {
+                if (!seen.add(email)) {
+                    duplicateEmails.add(new Email(email));
+                }
+            }
+            if (!duplicateEmails.isEmpty()) {
+                throw new DuplicatePersonException(duplicateEmails);
+            }
+        }
+    }
+
+    /**
+     * A column of strings in which every distinct value is stored once and each row holds the code of its value.
+     */
+    private static class DictionaryColumn {
+        private final int[] codes;
+        private final List<String> values = new ArrayList<>();
+        private Map<String, Integer> codesByValue = new HashMap<>();
+
+        DictionaryColumn(int size) {
+            codes = new int[size];
+        }
+
+        void set(int position, String value) {
+            codes[position] = codesByValue.computeIfAbsent(value, newValue -> {
+                values.add(newValue);
+                return values.size() - 1;
+            });
+        }
+
+        String get(int position) {
+            return values.get(codes[position]);
+        }
+
+        /**
+         * Drops the lookup map that is only needed while the column is being filled.
+         */
+        void freeze() {
+            codesByValue = null;
+        }
+    }
+}
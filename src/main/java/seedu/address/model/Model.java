@@ -1,19 +1,24 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.CssSettings;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.predicates.ReturnTruePredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
-    Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
+    Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = new ReturnTruePredicate();
 
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
@@ -78,22 +83,41 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Deletes all persons within the specified index range (inclusive).
+     * Deletes the person at {@code index} of the filtered person list.
+     * {@code index} must be within the filtered person list.
+     */
+    void deleteFilteredPerson(Index index);
+
+    /**
+     * Replaces the person at {@code index} of the filtered person list with {@code editedPerson}.
+     * {@code index} must be within the filtered person list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setFilteredPerson(Index index, Person editedPerson);
+
+    /**
+     * Deletes all persons within the specified one-based index range (inclusive) of the filtered person list.
      */
     void massDelete(int startIndex, int endIndex);
 
     /**
-     * Blacklists all persons within the specified index range (inclusive).
+     * Blacklists all persons within the specified one-based index range (inclusive) of the filtered person list.
      * If the person is already blacklisted, then no change will occur.
      */
     void massBlacklist(int startIndex, int endIndex);
 
     /**
-     * Unblacklists all persons within the specified index range (inclusive).
+     * Unblacklists all persons within the specified one-based index range (inclusive) of the filtered person list.
      * If the person is not in the blacklist to begin with, then no change will occur.
      */
     void massUnblacklist(int startIndex, int endIndex);
 
+    /**
+     * Adds {@code tags} to all persons within the specified one-based index range (inclusive) of the filtered
+     * person list. Tags that a person already has are left as they are.
+     */
+    void massTag(int startIndex, int endIndex, Set<Tag> tags);
+
     /**
      * Sorts all persons in the address book by name in alphabetical order.
      *
@@ -107,10 +131,23 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * On large address books, {@code predicate} may be tested from several threads at once, and the filtered person
+     * list may only be updated after this returns, as told by {@link #isFilteredPersonListPending()}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns true if the filtered person list has yet to be updated to the last predicate given to
+     * {@link #updateFilteredPersonList(Predicate)}, because that predicate is still being tested.
+     */
+    boolean isFilteredPersonListPending();
+
+    /**
+     * Returns the index over the persons in the address book, which is kept up to date as the address book changes.
+     */
+    PersonIndex getPersonIndex();
+
     /**
      * Sets the user prefs' CSS settings.
      */
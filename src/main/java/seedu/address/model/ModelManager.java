@@ -4,15 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.CssSettings;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +30,13 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PersonIndex personIndex;
+
+    /** Number of times the filter has been updated, so that a filter that is replaced before it is ready is dropped. */
+    private long filterUpdateCount;
+
+    /** Value of {@code filterUpdateCount} when the filter that is currently applied was given. */
+    private long appliedFilterUpdate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,6 +50,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        personIndex = new PersonIndex(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -123,35 +138,59 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void deleteFilteredPerson(Index index) {
+        requireNonNull(index);
+        addressBook.removePersonAt(getSourcePosition(index));
+    }
+
+    @Override
+    public void setFilteredPerson(Index index, Person editedPerson) {
+        requireAllNonNull(index, editedPerson);
+        addressBook.setPersonAt(getSourcePosition(index), editedPerson);
+    }
+
+    /**
+     * Returns the position in the address book of the person at {@code index} of the filtered person list.
+     */
+    private int getSourcePosition(Index index) {
+        assert index.getZeroBased() < filteredPersons.size() : "Index must be within the filtered person list";
+        return filteredPersons.getSourceIndex(index.getZeroBased());
+    }
+
     @Override
     public void massDelete(int startIndex, int endIndex) {
-        assert startIndex < endIndex : "Start index must be strictly smaller than the end index";
-        for (int i = startIndex; i <= endIndex; i++) {
-            Person personToDelete = addressBook.getPersonList().get(startIndex - 1);
-            deletePerson(personToDelete);
-        }
+        addressBook.removePersons(getSourcePositions(startIndex, endIndex));
     }
 
     @Override
     public void massBlacklist(int startIndex, int endIndex) {
-        assert startIndex < endIndex : "Start index must be strictly smaller than the end index";
-        for (int i = startIndex; i <= endIndex; i++) {
-            Person personToBlacklist = addressBook.getPersonList().get(i - 1);
-            if (!personToBlacklist.getBlacklistStatus()) {
-                setPerson(personToBlacklist, personToBlacklist.toggleBlacklistStatus());
-            }
-        }
+        addressBook.updatePersons(getSourcePositions(startIndex, endIndex),
+            person -> person.getBlacklistStatus() ? person : person.toggleBlacklistStatus());
     }
 
     @Override
     public void massUnblacklist(int startIndex, int endIndex) {
-        assert startIndex < endIndex : "Start index must be strictly smaller than the end index";
-        for (int i = startIndex; i <= endIndex; i++) {
-            Person personToUnblacklist = addressBook.getPersonList().get(i - 1);
-            if (personToUnblacklist.getBlacklistStatus()) {
-                setPerson(personToUnblacklist, personToUnblacklist.toggleBlacklistStatus());
-            }
-        }
+        addressBook.updatePersons(getSourcePositions(startIndex, endIndex),
+            person -> person.getBlacklistStatus() ? person.toggleBlacklistStatus() : person);
+    }
+
+    @Override
+    public void massTag(int startIndex, int endIndex, Set<Tag> tags) {
+        requireNonNull(tags);
+        addressBook.updatePersons(getSourcePositions(startIndex, endIndex), person -> person.addTags(tags));
+    }
+
+    /**
+     * Returns the positions in the address book of the persons within the specified one-based index range
+     * (inclusive) of the filtered person list.
+     */
+    private int[] getSourcePositions(int startIndex, int endIndex) {
+        assert startIndex >= 1 && startIndex <= endIndex && endIndex <= filteredPersons.size()
+                : "Index range must be within the filtered person list";
+        return IntStream.rangeClosed(startIndex - 1, endIndex - 1)
+                .map(filteredPersons::getSourceIndex)
+                .toArray();
     }
 
     @Override
@@ -170,10 +209,52 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * On large address books, the filter is applied once the persons have been tested on other threads, unless
+     * another filter has been applied by then.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        long filterUpdate = ++filterUpdateCount;
+        CompletableFuture<Predicate<Person>> precomputed = personIndex.precompute(predicate);
+        if (precomputed.isDone()) {
+            appliedFilterUpdate = filterUpdate;
+            filteredPersons.setPredicate(precomputed.join());
+            return;
+        }
+
+        precomputed.whenComplete((filter, error) -> runOnFxThread(() -> {
+            if (filterUpdate != filterUpdateCount) {
+                return;
+            }
+            if (error != null) {
+                logger.warning("Failed to precompute filter, testing persons directly: " + error);
+            }
+            appliedFilterUpdate = filterUpdate;
+            filteredPersons.setPredicate(error == null ? filter : predicate);
+        }));
+    }
+
+    @Override
+    public boolean isFilteredPersonListPending() {
+        return appliedFilterUpdate != filterUpdateCount;
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread, or at once if the JavaFX toolkit is not running.
+     */
+    private static void runOnFxThread(Runnable action) {
+        try {
+            Platform.runLater(action);
+        } catch (IllegalStateException ise) {
+            action.run();
+        }
+    }
+
+    @Override
+    public PersonIndex getPersonIndex() {
+        return personIndex;
     }
 
     @Override
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The count changes whenever the persons list may have changed, so an unchanged count means unchanged persons.
+     */
+    long getModificationCount();
+
 }
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can replace or remove the elements at many
+ * positions, or reorder all of its elements, each in a single pass reported to listeners as a single change.
+ * The list must not hold the same element instance more than once.
+ */
+class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+    private final List<E> elements = new ArrayList<>();
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with a single shift of
+     * the backing array.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(elements.subList(fromIndex, toIndex));
+        elements.subList(fromIndex, toIndex).clear();
+        modCount++;
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    /**
+     * Removes the elements at {@code positions}, which must be distinct and in ascending order, in a single pass.
+     */
+    void removeEach(int[] positions) {
+        List<E> remaining = new ArrayList<>(elements.size() - positions.length);
+        List<E> removed = new ArrayList<>(positions.length);
+        int next = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            if (next < positions.length && positions[next] == i) {
+                removed.add(elements.get(i));
+                next++;
+            } else {
+                remaining.add(elements.get(i));
+            }
+        }
+        assert next == positions.length : "Positions must be distinct, ascending and within the list";
+
+        elements.clear();
+        elements.addAll(remaining);
+        modCount++;
+        beginChange();
+        // reported from the back, so that each position is still valid when its removal is reported
+        for (int i = positions.length - 1; i >= 0; i--) {
+            nextRemove(positions[i], removed.get(i));
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the element at each of {@code positions} with the element at the same index of {@code replacements}.
+     */
+    void setEach(int[] positions, List<? extends E> replacements) {
+        assert positions.length == replacements.size() : "Every position must have exactly one replacement";
+        beginChange();
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                E oldElement = elements.set(positions[i], replacements.get(i));
+                nextSet(positions[i], oldElement);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        List<E> sorted = new ArrayList<>(elements);
+        sorted.sort(comparator);
+        reorder(sorted);
+    }
+
+    /**
+     * Rearranges the elements into the order of {@code reordered}, which must hold exactly the elements of this list.
+     */
+    void reorder(List<? extends E> reordered) {
+        assert reordered.size() == elements.size() : "Reordered list must hold the same elements";
+        Map<E, Integer> newPositions = new IdentityHashMap<>();
+        for (int i = 0; i < reordered.size(); i++) {
+            newPositions.put(reordered.get(i), i);
+        }
+        int[] permutation = new int[elements.size()];
+        for (int i = 0; i < elements.size(); i++) {
+            Integer newPosition = newPositions.get(elements.get(i));
+            assert newPosition != null : "Reordered list must hold the same elements";
+            permutation[i] = newPosition;
+        }
+
+        elements.clear();
+        elements.addAll(reordered);
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+}
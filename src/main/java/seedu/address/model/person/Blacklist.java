@@ -7,6 +7,9 @@ import static java.util.Objects.requireNonNull;
  * Guarantees: immutable; is always valid
  */
 public class Blacklist {
+    public static final Blacklist BLACKLISTED = new Blacklist(true);
+    public static final Blacklist NOT_BLACKLISTED = new Blacklist(false);
+
     public final Boolean isBlacklisted;
     public final String value;
 
@@ -29,12 +32,19 @@ public class Blacklist {
         this.value = "";
     }
 
+    /**
+     * Returns the shared {@code Blacklist} with the given status.
+     */
+    public static Blacklist of(boolean isBlacklisted) {
+        return isBlacklisted ? BLACKLISTED : NOT_BLACKLISTED;
+    }
+
     public boolean getStatus() {
         return isBlacklisted;
     }
 
     public Blacklist toggleStatus() {
-        return new Blacklist(!isBlacklisted);
+        return of(!isBlacklisted);
     }
 
     @Override
@@ -12,6 +12,10 @@ public class ModeOfContact {
             "Mode of Contact should only be address, phone or email.";
     public static final String VALIDATION_REGEX = "phone|address|email";
 
+    public static final ModeOfContact PHONE = new ModeOfContact("phone");
+    public static final ModeOfContact ADDRESS = new ModeOfContact("address");
+    public static final ModeOfContact EMAIL = new ModeOfContact("email");
+
     public final String value;
 
     /**
@@ -25,6 +29,26 @@ public class ModeOfContact {
         checkArgument(isValidModeOfContact(modeOfContact));
         value = modeOfContact;
     }
+
+    /**
+     * Returns the shared {@code ModeOfContact} for {@code modeOfContact}.
+     *
+     * @param modeOfContact A valid mode of contact.
+     */
+    public static ModeOfContact of(String modeOfContact) {
+        requireNonNull(modeOfContact);
+        switch (modeOfContact) {
+        case "phone":
+            return PHONE;
+        case "address":
+            return ADDRESS;
+        case "email":
+            return EMAIL;
+        default:
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+    }
+
     public static boolean isValidModeOfContact(String test) {
         return test.matches(VALIDATION_REGEX);
     }
@@ -2,12 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -25,7 +25,10 @@ public class Person {
     private final Address address;
     private final ModeOfContact modeOfContact;
     private final Blacklist blacklist;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Every field is immutable, so the hash code is computed once on construction
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -40,7 +43,8 @@ public class Person {
         this.remark = new Remark(Remark.DEFAULT_REMARK);
         this.modeOfContact = modeOfContact;
         this.blacklist = blacklist;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.hashCode = Objects.hash(name, phone, email, address, remark, modeOfContact, blacklist, this.tags);
     }
 
     /**
@@ -57,7 +61,8 @@ public class Person {
         this.remark = remark;
         this.modeOfContact = modeOfContact;
         this.blacklist = blacklist;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.hashCode = Objects.hash(name, phone, email, address, remark, modeOfContact, blacklist, this.tags);
     }
 
 
@@ -103,12 +108,26 @@ public class Person {
                 remark, modeOfContact, newBlacklist, tags);
     }
 
+    /**
+     * Returns this person with {@code tagsToAdd} added to its tags, or this person if it already has all of them.
+     * @return the newly created person, or this person if nothing changed
+     */
+    public Person addTags(Set<Tag> tagsToAdd) {
+        if (tags.containsAll(tagsToAdd)) {
+            return this;
+        }
+        Set<Tag> newTags = new HashSet<>(tags);
+        newTags.addAll(tagsToAdd);
+        return new Person(name, phone, email, address,
+                remark, modeOfContact, blacklist, newTags);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -127,6 +146,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * Persons with different hash codes are rejected without comparing their fields.
      */
     @Override
     public boolean equals(Object other) {
@@ -139,20 +159,23 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (otherPerson.hashCode != hashCode) {
+            return false;
+        }
+
         return otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
                 && otherPerson.getRemark().equals(getRemark())
                 && otherPerson.getModeOfContact().equals(getModeOfContact())
-                && otherPerson.getBlacklist().equals(getBlacklist())
-                && otherPerson.getTags().equals(getTags());
+                && Objects.equals(otherPerson.getBlacklist(), getBlacklist())
+                && otherPerson.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, remark, modeOfContact, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,288 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents the change between two versions of a person list as a sequence of runs, in ascending order of
+ * position. Each run replaces the persons in {@code removed} starting at position {@code from} with the persons in
+ * {@code added}, where {@code from} is a position in the list as it is once the earlier runs have been applied.
+ *
+ * Since {@code Person} is immutable, unchanged persons are shared between versions of the list, so two versions are
+ * compared by reference. Unchanged persons between two runs are not part of the delta, so the size of a delta is
+ * proportional to the number of persons that changed, even if they are scattered across the list.
+ *
+ * Guarantees: immutable, non-null
+ */
+public class PersonListDelta {
+    private final List<Run> runs;
+
+    /**
+     * Every run must be present and not null, and start after the persons added by the previous run.
+     */
+    public PersonListDelta(List<Run> runs) {
+        requireAllNonNull(runs);
+        int minFrom = 0;
+        for (Run run : runs) {
+            assert run.from >= minFrom : "Runs must be in ascending order of position";
+            minFrom = run.from + run.added.size();
+        }
+        this.runs = Collections.unmodifiableList(new ArrayList<>(runs));
+    }
+
+    /**
+     * Creates a delta of a single run. Every field must be present and not null.
+     */
+    public PersonListDelta(int from, List<Person> removed, List<Person> added) {
+        this(Collections.singletonList(new Run(from, removed, added)));
+    }
+
+    /**
+     * Returns a delta that turns {@code before} into {@code after}, touching only the persons that are not found
+     * at the same place in both lists. Persons that moved, as by sorting, are removed and added again.
+     * Runs in O(n) reference comparisons.
+     */
+    public static PersonListDelta between(List<Person> before, List<Person> after) {
+        requireAllNonNull(before, after);
+        int maxCommon = Math.min(before.size(), after.size());
+
+        int prefix = 0;
+        while (prefix < maxCommon && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int beforeEnd = before.size() - suffix;
+        int afterEnd = after.size() - suffix;
+        if (beforeEnd == afterEnd) {
+            return new PersonListDelta(replacedRuns(before, after, prefix, afterEnd));
+        }
+        return new PersonListDelta(changedRuns(before, after, prefix, beforeEnd, afterEnd));
+    }
+
+    /**
+     * Returns the runs of persons in {@code [from, to)} that are not the same in both lists of the same size.
+     */
+    private static List<Run> replacedRuns(List<Person> before, List<Person> after, int from, int to) {
+        List<Run> runs = new ArrayList<>();
+        int position = from;
+        while (position < to) {
+            if (before.get(position) == after.get(position)) {
+                position++;
+                continue;
+            }
+            int runStart = position;
+            while (position < to && before.get(position) != after.get(position)) {
+                position++;
+            }
+            runs.add(new Run(runStart, before.subList(runStart, position), after.subList(runStart, position)));
+        }
+        return runs;
+    }
+
+    /**
+     * Returns the runs that turn {@code before} into {@code after} between their common prefix of length
+     * {@code from} and their common suffix, which starts at {@code beforeEnd} and {@code afterEnd} respectively.
+     * Persons found in both lists are kept where they line up; the others are removed or added.
+     */
+    private static List<Run> changedRuns(List<Person> before, List<Person> after, int from, int beforeEnd,
+            int afterEnd) {
+        Map<Person, Integer> beforePositions = positionsOf(before, from, beforeEnd);
+        Map<Person, Integer> afterPositions = positionsOf(after, from, afterEnd);
+
+        List<Run> runs = new ArrayList<>();
+        int i = from;
+        int j = from;
+        while (i < beforeEnd || j < afterEnd) {
+            if (isLinedUp(before, after, i, j, beforeEnd, afterEnd)) {
+                i++;
+                j++;
+                continue;
+            }
+            int removedStart = i;
+            int addedStart = j;
+            do {
+                if (j == afterEnd || (i < beforeEnd && isBehind(afterPositions.get(before.get(i)), j))) {
+                    i++;
+                } else if (i == beforeEnd || isBehind(beforePositions.get(after.get(j)), i)) {
+                    j++;
+                } else {
+                    // both are found further on in the other list, so the person at i has moved
+                    i++;
+                }
+            } while ((i < beforeEnd || j < afterEnd) && !isLinedUp(before, after, i, j, beforeEnd, afterEnd));
+            runs.add(new Run(addedStart, before.subList(removedStart, i), after.subList(addedStart, j)));
+        }
+        return runs;
+    }
+
+    private static boolean isLinedUp(List<Person> before, List<Person> after, int i, int j, int beforeEnd,
+            int afterEnd) {
+        return i < beforeEnd && j < afterEnd && before.get(i) == after.get(j);
+    }
+
+    private static Map<Person, Integer> positionsOf(List<Person> persons, int from, int to) {
+        Map<Person, Integer> positions = new IdentityHashMap<>(to - from);
+        for (int i = from; i < to; i++) {
+            positions.put(persons.get(i), i);
+        }
+        return positions;
+    }
+
+    /**
+     * Returns true if a person at {@code position} in the other list, or absent from it if null, can no longer be
+     * lined up with that list, whose persons before {@code cursor} have already been dealt with.
+     */
+    private static boolean isBehind(Integer position, int cursor) {
+        return position == null || position < cursor;
+    }
+
+    public List<Run> getRuns() {
+        return runs;
+    }
+
+    /**
+     * Returns the number of persons touched by this delta.
+     */
+    public int size() {
+        return runs.stream().mapToInt(Run::size).sum();
+    }
+
+    public boolean isEmpty() {
+        return runs.stream().allMatch(run -> run.removed.isEmpty() && run.added.isEmpty());
+    }
+
+    /**
+     * Returns true if applying this delta changes the values in the list, rather than only replacing persons with
+     * equal ones at the same positions.
+     */
+    public boolean changesValues() {
+        return runs.stream().anyMatch(run -> !run.removed.equals(run.added));
+    }
+
+    /**
+     * Returns the delta that undoes this delta.
+     */
+    public PersonListDelta invert() {
+        List<Run> invertedRuns = new ArrayList<>(runs.size());
+        int shift = 0;
+        for (Run run : runs) {
+            invertedRuns.add(new Run(run.from - shift, run.added, run.removed));
+            shift += run.added.size() - run.removed.size();
+        }
+        return new PersonListDelta(invertedRuns);
+    }
+
+    /**
+     * Applies this delta to {@code persons}, which must be the list this delta was computed from.
+     * A delta of several runs rebuilds the list once rather than shifting it for every run.
+     */
+    public void applyTo(List<Person> persons) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        if (runs.size() == 1) {
+            Run run = runs.get(0);
+            assert run.from + run.removed.size() <= persons.size() : "Delta does not fit the given list";
+            persons.subList(run.from, run.from + run.removed.size()).clear();
+            persons.addAll(run.from, run.added);
+            return;
+        }
+
+        List<Person> result = new ArrayList<>(persons.size() + size());
+        int position = 0;
+        for (Run run : runs) {
+            int unchanged = run.from - result.size();
+            assert position + unchanged + run.removed.size() <= persons.size() : "Delta does not fit the given list";
+            result.addAll(persons.subList(position, position + unchanged));
+            result.addAll(run.added);
+            position += unchanged + run.removed.size();
+        }
+        result.addAll(persons.subList(position, persons.size()));
+        persons.clear();
+        persons.addAll(result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonListDelta // instanceof handles nulls
+                && runs.equals(((PersonListDelta) other).runs)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return runs.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Replace " + runs.stream().mapToInt(run -> run.removed.size()).sum() + " person(s) with "
+                + runs.stream().mapToInt(run -> run.added.size()).sum() + " person(s) in " + runs.size() + " run(s)";
+    }
+
+    /**
+     * A contiguous block of a {@code PersonListDelta}: the persons in {@code removed} starting at position
+     * {@code from} are replaced by the persons in {@code added}.
+     */
+    public static class Run {
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Run(int from, List<Person> removed, List<Person> added) {
+            requireAllNonNull(removed, added);
+            assert from >= 0 : "Start of the changed block cannot be negative";
+            this.from = from;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public List<Person> getRemoved() {
+            return removed;
+        }
+
+        public List<Person> getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns the number of persons touched by this run.
+         */
+        public int size() {
+            return removed.size() + added.size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Run // instanceof handles nulls
+                    && from == ((Run) other).from
+                    && removed.equals(((Run) other).removed)
+                    && added.equals(((Run) other).added)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
@@ -3,9 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,20 +31,27 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An email-keyed hash index is maintained alongside the backing list, so that identity lookups do not need to scan
+ * the whole list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Person> internalList = new BatchObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Email, Person> emailIndex = new HashMap<>();
+
+    /** If true, the email index is verified against the backing list after every mutation. Meant for tests. */
+    private boolean isCheckingConsistency = false;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -47,7 +63,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        emailIndex.put(toAdd.getEmail(), toAdd);
         internalList.add(toAdd);
+        checkConsistency();
     }
 
     /**
@@ -58,8 +76,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person indexedTarget = emailIndex.get(target.getEmail());
+        if (!target.equals(indexedTarget)) {
             throw new PersonNotFoundException();
         }
 
@@ -67,7 +85,27 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        setPersonAt(positionOf(indexedTarget), editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code position} in the list with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * Unlike {@link #setPerson(Person, Person)}, this does not need to search the list for the person to replace.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is not within the list.
+     */
+    public void setPersonAt(int position, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = internalList.get(position);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        emailIndex.remove(target.getEmail());
+        emailIndex.put(editedPerson.getEmail(), editedPerson);
+        internalList.set(position, editedPerson);
+        checkConsistency();
     }
 
     /**
@@ -76,27 +114,167 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person indexedPerson = emailIndex.get(toRemove.getEmail());
+        if (!toRemove.equals(indexedPerson)) {
             throw new PersonNotFoundException();
         }
+        removeAt(positionOf(indexedPerson));
+    }
+
+    /**
+     * Returns the position of {@code person} in the backing list.
+     * {@code person} must be the instance held by the email index, so the list is scanned by reference rather than
+     * with {@code Person#equals(Object)}.
+     */
+    private int positionOf(Person person) {
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == person) {
+                return i;
+            }
+        }
+        throw new AssertionError("Person in the email index must be in the backing list");
+    }
+
+    /**
+     * Removes the persons from position {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) in one operation,
+     * which is reported to listeners as a single change.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the list.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        List<Person> toRemove = internalList.subList(fromIndex, toIndex);
+        for (Person person : toRemove) {
+            emailIndex.remove(person.getEmail());
+        }
+        internalList.remove(fromIndex, toIndex);
+        checkConsistency();
+    }
+
+    /**
+     * Removes the person at {@code position} from the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is not within the list.
+     */
+    public void removeAt(int position) {
+        Person removed = internalList.remove(position);
+        emailIndex.remove(removed.getEmail());
+        checkConsistency();
+    }
+
+    /**
+     * Removes the persons at {@code positions} in one operation, which is reported to listeners as a single change.
+     *
+     * @throws IndexOutOfBoundsException if any of {@code positions} is not within the list.
+     */
+    public void removeAt(int[] positions) {
+        requireNonNull(positions);
+        int[] distinctPositions = IntStream.of(positions).sorted().distinct().toArray();
+        if (distinctPositions.length == 0) {
+            return;
+        }
+        int first = distinctPositions[0];
+        int last = distinctPositions[distinctPositions.length - 1];
+        Objects.checkFromToIndex(first, last + 1, internalList.size());
+        if (last - first + 1 == distinctPositions.length) {
+            removeRange(first, last + 1);
+            return;
+        }
+
+        for (int position : distinctPositions) {
+            emailIndex.remove(internalList.get(position).getEmail());
+        }
+        internalList.removeEach(distinctPositions);
+        checkConsistency();
+    }
+
+    /**
+     * Replaces each person from position {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with the result
+     * of applying {@code transformation} to it.
+     *
+     * @see #updatePersons(int[], UnaryOperator)
+     */
+    public void updateRange(int fromIndex, int toIndex, UnaryOperator<Person> transformation) {
+        Objects.checkFromToIndex(fromIndex, toIndex, internalList.size());
+        updatePersons(IntStream.range(fromIndex, toIndex).toArray(), transformation);
+    }
+
+    /**
+     * Replaces each person at {@code positions} with the result of applying {@code transformation} to it.
+     * All replacements are checked for duplicates before any is made, and they are reported to listeners as a single
+     * change. Persons for which {@code transformation} returns the same instance are left untouched.
+     *
+     * @throws DuplicatePersonException if the replacements would result in duplicate persons.
+     * @throws IndexOutOfBoundsException if any of {@code positions} is not within the list.
+     */
+    public void updatePersons(int[] positions, UnaryOperator<Person> transformation) {
+        requireAllNonNull(positions, transformation);
+        int[] distinctPositions = IntStream.of(positions).sorted().distinct().toArray();
+        IntStream.Builder changedPositions = IntStream.builder();
+        List<Person> originals = new ArrayList<>();
+        List<Person> replacements = new ArrayList<>();
+        for (int position : distinctPositions) {
+            Person original = internalList.get(position);
+            Person replacement = requireNonNull(transformation.apply(original));
+            if (replacement != original) {
+                changedPositions.add(position);
+                originals.add(original);
+                replacements.add(replacement);
+            }
+        }
+
+        checkNoDuplicates(originals, replacements);
+        originals.forEach(original -> emailIndex.remove(original.getEmail()));
+        replacements.forEach(replacement -> emailIndex.put(replacement.getEmail(), replacement));
+        internalList.setEach(changedPositions.build().toArray(), replacements);
+        checkConsistency();
+    }
+
+    /**
+     * Checks that replacing every person in {@code originals} with the person at the same index of
+     * {@code replacements} keeps the list unique.
+     */
+    private void checkNoDuplicates(List<Person> originals, List<Person> replacements) {
+        Set<Email> freedEmails = new HashSet<>();
+        for (int i = 0; i < originals.size(); i++) {
+            if (!originals.get(i).getEmail().equals(replacements.get(i).getEmail())) {
+                freedEmails.add(originals.get(i).getEmail());
+            }
+        }
+
+        Set<Email> replacementEmails = new HashSet<>();
+        Set<Email> duplicateEmails = new LinkedHashSet<>();
+        for (int i = 0; i < replacements.size(); i++) {
+            Email email = replacements.get(i).getEmail();
+            boolean isEmailChanged = !email.equals(originals.get(i).getEmail());
+            if (!replacementEmails.add(email)
+                    || (isEmailChanged && emailIndex.containsKey(email) && !freedEmails.contains(email))) {
+                duplicateEmails.add(email);
+            }
+        }
+        if (!duplicateEmails.isEmpty()) {
+            throw new DuplicatePersonException(duplicateEmails);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        emailIndex = new HashMap<>(replacement.emailIndex);
         internalList.setAll(replacement.internalList);
+        checkConsistency();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in a single hashed pass and the backing list is replaced in one {@code setAll}.
+     *
+     * @throws DuplicatePersonException reporting every duplicated email if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
-
+        emailIndex = indexByEmail(persons);
         internalList.setAll(persons);
+        checkConsistency();
     }
 
     /**
@@ -106,11 +284,12 @@ public class UniquePersonList implements Iterable<Person> {
      * order otherwise.
      */
     public void sortByName(boolean isAscending) {
-        PersonComparator contactComparator = new PersonComparator();
-        Collections.sort(internalList, contactComparator);
+        List<Person> sorted = new ArrayList<>(internalList);
+        Collections.sort(sorted, new PersonComparator());
         if (!isAscending) {
-            Collections.reverse(internalList);
+            Collections.reverse(sorted);
         }
+        internalList.reorder(sorted);
     }
 
     /**
@@ -138,16 +317,50 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Turns on or off the verification of the email index after every mutation.
+     * This is an O(n) check per mutation and should only be used in tests.
+     */
+    void setConsistencyChecking(boolean isCheckingConsistency) {
+        this.isCheckingConsistency = isCheckingConsistency;
+    }
+
+    /**
+     * Returns true if the email index holds exactly the persons in the backing list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    boolean isIndexConsistent() {
+        if (emailIndex.size() != internalList.size()) {
+            return false;
+        }
+        for (Person person : internalList) {
+            if (emailIndex.get(person.getEmail()) != person) {
+                return false;
             }
         }
         return true;
     }
+
+    private void checkConsistency() {
+        if (isCheckingConsistency && !isIndexConsistent()) {
+            throw new IllegalStateException("Email index is out of sync with the person list");
+        }
+    }
+
+    /**
+     * Returns an email index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private static Map<Email, Person> indexByEmail(List<Person> persons) {
+        Map<Email, Person> index = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        Set<Email> duplicateEmails = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getEmail(), person) != null) {
+                duplicateEmails.add(person.getEmail());
+            }
+        }
+        if (!duplicateEmails.isEmpty()) {
+            throw new DuplicatePersonException(duplicateEmails);
+        }
+        return index;
+    }
 }
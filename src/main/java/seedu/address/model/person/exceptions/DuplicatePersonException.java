@@ -1,11 +1,42 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Email;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Email> duplicateEmails;
+
+    /**
+     * Constructs a {@code DuplicatePersonException} without the offending emails.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicateEmails = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every email shared by more than one person.
+     */
+    public DuplicatePersonException(Collection<Email> duplicateEmails) {
+        super("Operation would result in duplicate persons with the email(s): " + duplicateEmails.stream()
+                .map(Email::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateEmails = Collections.unmodifiableList(new ArrayList<>(duplicateEmails));
+    }
+
+    /**
+     * Returns the emails that are shared by more than one person, or an empty list if they are not known.
+     */
+    public List<Email> getDuplicateEmails() {
+        return duplicateEmails;
     }
 }
@@ -0,0 +1,62 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each value of a low-cardinality field of a person, such as the blacklist status, to a bit set of
+ * the ids of the persons with that value.
+ *
+ * @param <T> the type of the indexed field value
+ */
+public class BitSetIndex<T> {
+    private final Function<Person, T> fieldValue;
+    private final Map<T, BitSet> bitSets = new HashMap<>();
+
+    /**
+     * Creates an empty index over the field value returned by {@code fieldValue}.
+     */
+    BitSetIndex(Function<Person, T> fieldValue) {
+        this.fieldValue = fieldValue;
+    }
+
+    void add(int id, Person person) {
+        bitSets.computeIfAbsent(fieldValue.apply(person), unused -> new BitSet()).set(id);
+    }
+
+    void remove(int id, Person person) {
+        BitSet bitSet = bitSets.get(fieldValue.apply(person));
+        if (bitSet != null) {
+            bitSet.clear(id);
+        }
+    }
+
+    void clear() {
+        bitSets.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose field is equal to {@code value}.
+     * The returned bit set is a copy and may be modified by the caller.
+     */
+    public BitSet find(T value) {
+        requireNonNull(value);
+        BitSet bitSet = bitSets.get(value);
+        return bitSet == null ? new BitSet() : (BitSet) bitSet.clone();
+    }
+
+    /**
+     * Returns the number of persons whose field is equal to {@code value}.
+     */
+    public int count(T value) {
+        requireNonNull(value);
+        BitSet bitSet = bitSets.get(value);
+        return bitSet == null ? 0 : bitSet.cardinality();
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.person.index;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can be answered from a {@code PersonIndex} without testing every person.
+ */
+public interface IndexablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ids of the persons in {@code index} that satisfy this predicate.
+     */
+    BitSet findMatches(PersonIndex index);
+
+    /**
+     * Returns the ids of the persons in {@code index} that may satisfy this predicate, which include the ids of all
+     * the persons that do. Unless {@link #findsOnlyMatches()}, the candidates still have to be tested.
+     */
+    default BitSet findCandidates(PersonIndex index) {
+        return findMatches(index);
+    }
+
+    /**
+     * Returns true if {@link #findCandidates(PersonIndex)} returns exactly the ids of the persons that satisfy this
+     * predicate.
+     */
+    default boolean findsOnlyMatches() {
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy this predicate, computed from index
+     * statistics without looking at any person.
+     */
+    int estimateMatches(PersonIndex index);
+}
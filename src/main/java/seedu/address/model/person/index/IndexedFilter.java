@@ -0,0 +1,90 @@
+package seedu.address.model.person.index;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A predicate that answers from the ids of the matching persons, as looked up in a {@code PersonIndex} when the
+ * filter was created.
+ *
+ * The looked-up ids may only be candidates, in which case the persons with those ids still have to satisfy the
+ * untested part of the predicate. {@link PersonIndex#precompute(Predicate)} tests the candidates once, so that the
+ * filter is left with the ids of the matching persons only.
+ *
+ * Persons added to the list after the lookup, for example by an edit while the filter is shown, are not covered by
+ * the looked-up ids and are tested against the full predicate instead.
+ */
+class IndexedFilter implements Predicate<Person> {
+    private final PersonIndex index;
+    private final int generation;
+    private final int idLimit;
+    private final BitSet candidates;
+    private final Predicate<Person> untestedPredicate;
+    private final Predicate<Person> fullPredicate;
+
+    IndexedFilter(PersonIndex index, BitSet candidates, Predicate<Person> fullPredicate) {
+        this(index, index.getGeneration(), index.getIdLimit(), candidates, null, fullPredicate);
+    }
+
+    /**
+     * Creates a filter from {@code candidates}, which were looked up in the current generation of {@code index}, and
+     * of which only those that satisfy {@code untestedPredicate} match. A null {@code untestedPredicate} means that
+     * every candidate matches.
+     */
+    IndexedFilter(PersonIndex index, BitSet candidates, Predicate<Person> untestedPredicate,
+                  Predicate<Person> fullPredicate) {
+        this(index, index.getGeneration(), index.getIdLimit(), candidates, untestedPredicate, fullPredicate);
+    }
+
+    /**
+     * Creates a filter from {@code candidates}, which were looked up when {@code index} was at the given
+     * {@code generation} and {@code idLimit}, and of which only those that satisfy {@code untestedPredicate} match.
+     */
+    IndexedFilter(PersonIndex index, int generation, int idLimit, BitSet candidates,
+                  Predicate<Person> untestedPredicate, Predicate<Person> fullPredicate) {
+        this.index = index;
+        this.generation = generation;
+        this.idLimit = idLimit;
+        this.candidates = candidates;
+        this.untestedPredicate = untestedPredicate;
+        this.fullPredicate = fullPredicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int id = index.getId(person);
+        if (index.getGeneration() != generation || id < 0 || id >= idLimit) {
+            return fullPredicate.test(person);
+        }
+        return candidates.get(id) && (untestedPredicate == null || untestedPredicate.test(person));
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    int getIdLimit() {
+        return idLimit;
+    }
+
+    /**
+     * Returns the looked-up ids. The caller must not modify them.
+     */
+    BitSet getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the part of the predicate that the candidates have not been tested against, or null if every
+     * candidate matches.
+     */
+    Predicate<Person> getUntestedPredicate() {
+        return untestedPredicate;
+    }
+
+    Predicate<Person> getFullPredicate() {
+        return fullPredicate;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from every substring of length {@code GRAM_LENGTH} of one field of a person to the ids of the persons
+ * whose field contains that substring. Substrings are compared ignoring case, as in {@code StringUtil.isSubstring}.
+ *
+ * A person whose field contains a keyword also contains every substring of the keyword, so intersecting the ids of
+ * those substrings narrows down the persons that can contain the keyword. The result may still contain persons that
+ * only contain the substrings in a different arrangement, and must be verified against the field itself.
+ */
+public class NGramIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Function<Person, String> fieldValue;
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final BitSet indexedIds = new BitSet();
+
+    /**
+     * Creates an empty index over the field value returned by {@code fieldValue}.
+     */
+    NGramIndex(Function<Person, String> fieldValue) {
+        this.fieldValue = fieldValue;
+    }
+
+    void add(int id, Person person) {
+        for (String gram : gramsOf(fieldValue.apply(person))) {
+            postings.computeIfAbsent(gram, unused -> new PostingList()).add(id);
+        }
+        indexedIds.set(id);
+    }
+
+    void remove(int id, Person person) {
+        for (String gram : gramsOf(fieldValue.apply(person))) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        indexedIds.clear(id);
+    }
+
+    void clear() {
+        postings.clear();
+        indexedIds.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose field may contain any of {@code keywords}.
+     * Every person whose field does contain one of the keywords is included. Keywords shorter than
+     * {@code GRAM_LENGTH} cannot be narrowed down, and include every person in the index.
+     */
+    public BitSet findCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet candidates = new BitSet();
+        for (String keyword : keywords) {
+            Set<String> grams = gramsOf(keyword.trim());
+            if (grams.isEmpty()) {
+                candidates.or(indexedIds);
+                return candidates;
+            }
+            addCandidates(grams, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound of the number of persons whose field contains any of {@code keywords}: for each keyword,
+     * the size of the shortest posting list among its substrings.
+     */
+    public int estimateCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            Set<String> grams = gramsOf(keyword.trim());
+            if (grams.isEmpty()) {
+                return indexedIds.cardinality();
+            }
+            estimate += grams.stream()
+                    .mapToInt(gram -> postings.containsKey(gram) ? postings.get(gram).size() : 0)
+                    .min().getAsInt();
+        }
+        return Math.min(estimate, indexedIds.cardinality());
+    }
+
+    /**
+     * Sets the ids of the persons whose field contains all of {@code grams} in {@code candidates}.
+     */
+    private void addCandidates(Set<String> grams, BitSet candidates) {
+        List<PostingList> postingLists = new ArrayList<>();
+        for (String gram : grams) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return;
+            }
+            postingLists.add(postingList);
+        }
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList shortest = postingLists.get(0);
+        List<PostingList> others = postingLists.subList(1, postingLists.size());
+        for (int i = 0; i < shortest.size(); i++) {
+            int id = shortest.get(i);
+            if (others.stream().allMatch(postingList -> postingList.contains(id))) {
+                candidates.set(id);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String value) {
+        String preppedValue = value.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= preppedValue.length(); i++) {
+            grams.add(preppedValue.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
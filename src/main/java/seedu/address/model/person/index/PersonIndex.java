@@ -0,0 +1,289 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.ReturnTruePredicate;
+
+/**
+ * Indexes the persons of an observable person list so that keyword and substring queries can be answered without
+ * scanning the list.
+ * The index listens to the list and is updated whenever persons are added, replaced or removed.
+ *
+ * Every person in the list is given an id. Ids are handed out in increasing order and are not reused, so that an id
+ * looked up once keeps referring to the same person. Once enough ids have been used up by removed persons, the
+ * index renumbers the persons and starts a new generation; ids from an older generation must not be used.
+ */
+public class PersonIndex {
+
+    /** Size of the list from which {@link #precompute(Predicate)} tests the persons in parallel. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+    /** Number of ids that may be used up by removed persons, on top of the size of the list, before renumbering. */
+    private static final int MIN_UNUSED_IDS = 1024;
+
+    private final ObservableList<Person> persons;
+    private final int parallelThreshold;
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final List<Person> personsById = new ArrayList<>();
+    private final TokenIndex nameIndex = new TokenIndex(person -> List.of(person.getName().fullName));
+    private final TokenIndex addressIndex = new TokenIndex(person -> List.of(person.getAddress().value));
+    private final TokenIndex tagIndex = new TokenIndex(person -> person.getTags().stream()
+            .map(tag -> tag.tagName).collect(Collectors.toList()));
+    private final NGramIndex phoneIndex = new NGramIndex(person -> person.getPhone().value);
+    private final NGramIndex emailIndex = new NGramIndex(person -> person.getEmail().value);
+    private final BitSetIndex<Boolean> blacklistIndex = new BitSetIndex<>(Person::getBlacklistStatus);
+    private final BitSetIndex<String> modeOfContactIndex = new BitSetIndex<>(person -> person.getModeOfContact().value);
+
+    private int nextId;
+    private int generation;
+
+    /**
+     * Creates an index over {@code persons} that is kept up to date with later changes to the list.
+     */
+    public PersonIndex(ObservableList<Person> persons) {
+        this(persons, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates an index over {@code persons} that is kept up to date with later changes to the list, and that tests
+     * predicates in parallel once the list holds at least {@code parallelThreshold} persons.
+     */
+    public PersonIndex(ObservableList<Person> persons, int parallelThreshold) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.parallelThreshold = parallelThreshold;
+        rebuild();
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        if (nextId - ids.size() > ids.size() + MIN_UNUSED_IDS) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Renumbers every person in the list in list order and starts a new generation.
+     */
+    private void rebuild() {
+        ids.clear();
+        personsById.clear();
+        nameIndex.clear();
+        addressIndex.clear();
+        tagIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        blacklistIndex.clear();
+        modeOfContactIndex.clear();
+        nextId = 0;
+        generation++;
+        persons.forEach(this::add);
+    }
+
+    private void add(Person person) {
+        int id = nextId++;
+        ids.put(person, id);
+        personsById.add(person);
+        nameIndex.add(id, person);
+        addressIndex.add(id, person);
+        tagIndex.add(id, person);
+        phoneIndex.add(id, person);
+        emailIndex.add(id, person);
+        blacklistIndex.add(id, person);
+        modeOfContactIndex.add(id, person);
+    }
+
+    private void remove(Person person) {
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        personsById.set(id, null);
+        nameIndex.remove(id, person);
+        addressIndex.remove(id, person);
+        tagIndex.remove(id, person);
+        phoneIndex.remove(id, person);
+        emailIndex.remove(id, person);
+        blacklistIndex.remove(id, person);
+        modeOfContactIndex.remove(id, person);
+    }
+
+    /**
+     * Returns the id of {@code person}, or -1 if it is not in the list.
+     * Persons are looked up by identity, not by {@code equals}.
+     */
+    public int getId(Person person) {
+        Integer id = ids.get(person);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if that person is no longer in the list.
+     */
+    public Person getPerson(int id) {
+        return id < personsById.size() ? personsById.get(id) : null;
+    }
+
+    /**
+     * Removes from {@code ids} the ids of the persons that do not satisfy {@code predicate}.
+     */
+    public void retainMatching(BitSet ids, Predicate<Person> predicate) {
+        requireNonNull(ids);
+        requireNonNull(predicate);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            Person person = getPerson(id);
+            if (person == null || !predicate.test(person)) {
+                ids.clear(id);
+            }
+        }
+    }
+
+    /**
+     * Returns an upper bound of the ids currently in use.
+     */
+    public int getIdLimit() {
+        return nextId;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public TokenIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public TokenIndex getAddressIndex() {
+        return addressIndex;
+    }
+
+    public TokenIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public NGramIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public NGramIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    public BitSetIndex<Boolean> getBlacklistIndex() {
+        return blacklistIndex;
+    }
+
+    public BitSetIndex<String> getModeOfContactIndex() {
+        return modeOfContactIndex;
+    }
+
+    /**
+     * Returns a plan for finding the persons that satisfy all of {@code predicates}.
+     */
+    public QueryPlan plan(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        return new QueryPlan(this, predicates);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to all of {@code predicates} combined with {@code Predicate#and}.
+     * The predicates are answered from this index once, as planned by {@link #plan(List)}.
+     */
+    public Predicate<Person> filter(List<Predicate<Person>> predicates) {
+        return plan(predicates).execute();
+    }
+
+    /**
+     * Returns a future predicate that is equivalent to {@code predicate}, but whose result for every person currently
+     * in the list has already been computed, so that applying it to the list only needs a lookup per person.
+     * The persons and their ids are taken on the calling thread, which must be the thread that changes the list.
+     * They are then tested in parallel on the common fork/join pool, without holding up the calling thread.
+     * A filter returned by {@link QueryPlan#execute()} only has its candidates tested.
+     *
+     * Predicates that are already precomputed or trivial, and fewer persons than the parallel threshold, are not
+     * worth splitting up, so the returned future is already completed with {@code predicate} unchanged.
+     * {@code predicate} must be safe to test from several threads at once.
+     */
+    public CompletableFuture<Predicate<Person>> precompute(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedFilter) {
+            return precomputeCandidates((IndexedFilter) predicate);
+        }
+        if (persons.size() < parallelThreshold || predicate instanceof ReturnTruePredicate) {
+            return CompletableFuture.completedFuture(predicate);
+        }
+
+        Person[] snapshot = persons.toArray(new Person[0]);
+        int[] snapshotIds = new int[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshotIds[i] = getId(snapshot[i]);
+        }
+        return testInParallel(snapshot, snapshotIds, predicate, predicate);
+    }
+
+    private CompletableFuture<Predicate<Person>> precomputeCandidates(IndexedFilter filter) {
+        BitSet candidates = filter.getCandidates();
+        if (filter.getUntestedPredicate() == null || filter.getGeneration() != generation
+                || candidates.cardinality() < parallelThreshold) {
+            return CompletableFuture.completedFuture(filter);
+        }
+
+        Person[] snapshot = new Person[candidates.cardinality()];
+        int[] snapshotIds = new int[snapshot.length];
+        int count = 0;
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            Person person = getPerson(id);
+            if (person != null) {
+                snapshot[count] = person;
+                snapshotIds[count] = id;
+                count++;
+            }
+        }
+        return testInParallel(Arrays.copyOf(snapshot, count), Arrays.copyOf(snapshotIds, count),
+                filter.getUntestedPredicate(), filter.getFullPredicate());
+    }
+
+    /**
+     * Returns a future filter for {@code fullPredicate} that matches the persons in {@code snapshot} that satisfy
+     * {@code predicate}, as tested in parallel on the common fork/join pool.
+     */
+    private CompletableFuture<Predicate<Person>> testInParallel(Person[] snapshot, int[] snapshotIds,
+            Predicate<Person> predicate, Predicate<Person> fullPredicate) {
+        int snapshotGeneration = generation;
+        int snapshotIdLimit = nextId;
+
+        return CompletableFuture.supplyAsync(() -> {
+            int[] matchingIds = IntStream.range(0, snapshot.length)
+                    .parallel()
+                    .filter(i -> predicate.test(snapshot[i]))
+                    .map(i -> snapshotIds[i])
+                    .toArray();
+            BitSet matches = new BitSet(snapshotIdLimit);
+            for (int id : matchingIds) {
+                matches.set(id);
+            }
+            return new IndexedFilter(this, snapshotGeneration, snapshotIdLimit, matches, null, fullPredicate);
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A sorted set of person ids, stored in a growable {@code int} array.
+ * {@code PersonIndex} hands out ids in increasing order, so adding the id of a new person appends to the end.
+ */
+class PostingList {
+    private int[] ids = new int[2];
+    private int size;
+
+    /**
+     * Adds {@code id} to this list if it is not already present.
+     */
+    void add(int id) {
+        int position = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0 && position < size) {
+            return;
+        }
+        if (position < 0) {
+            position = -position - 1;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    /**
+     * Removes {@code id} from this list if it is present.
+     */
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Returns true if {@code id} is in this list.
+     */
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Returns the id at {@code position} in ascending order of ids.
+     */
+    int get(int position) {
+        assert position < size : "Position is out of bounds";
+        return ids[position];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sets the bit of every id in this list in {@code bits}.
+     */
+    void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(ids[i]);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.person.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.ReturnTruePredicate;
+
+/**
+ * Decides in which order the predicates of a query are answered from a {@code PersonIndex}.
+ *
+ * Always-true predicates are dropped. The indexable predicates are looked up in the index in ascending order of
+ * their estimated number of matches, and their matches are intersected. Once the intersection is no larger than the
+ * estimate of the next predicate, it is cheaper to test that predicate on the remaining candidates than to look it
+ * up, so the remaining predicates are tested on the candidates instead. Predicates that cannot be answered from the
+ * index are tested on the candidates last, or on every person if nothing could be looked up.
+ */
+public class QueryPlan {
+    private final PersonIndex index;
+    private final List<Step> indexedSteps = new ArrayList<>();
+    private final List<Predicate<Person>> unindexedPredicates = new ArrayList<>();
+    private final int droppedCount;
+    private Predicate<Person> fullPredicate = person -> true;
+    private int resultSize = -1;
+    private boolean isResultTested;
+
+    /**
+     * Plans a query for persons in {@code index} that satisfy all of {@code predicates}.
+     */
+    QueryPlan(PersonIndex index, List<Predicate<Person>> predicates) {
+        this.index = index;
+        int dropped = 0;
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof ReturnTruePredicate) {
+                dropped++;
+                continue;
+            }
+            fullPredicate = fullPredicate.and(predicate);
+            if (predicate instanceof IndexablePredicate) {
+                IndexablePredicate indexablePredicate = (IndexablePredicate) predicate;
+                indexedSteps.add(new Step(indexablePredicate, indexablePredicate.estimateMatches(index)));
+            } else {
+                unindexedPredicates.add(predicate);
+            }
+        }
+        this.droppedCount = dropped;
+        indexedSteps.sort(Comparator.comparingInt(step -> step.estimate));
+    }
+
+    /**
+     * Runs the query and returns a predicate that is true for exactly the persons that satisfy all predicates.
+     *
+     * Only the lookups are done here. Testing the candidates is left to the returned predicate, which
+     * {@link PersonIndex#precompute(Predicate)} can do on other threads.
+     */
+    public Predicate<Person> execute() {
+        if (indexedSteps.isEmpty()) {
+            return unindexedPredicates.isEmpty() ? new ReturnTruePredicate() : fullPredicate;
+        }
+
+        BitSet candidates = null;
+        Predicate<Person> untestedPredicate = null;
+        for (Step step : indexedSteps) {
+            if (candidates == null || candidates.cardinality() > step.estimate) {
+                BitSet matches = step.predicate.findCandidates(index);
+                step.lookedUp = true;
+                step.actual = matches.cardinality();
+                candidates = candidates == null ? matches : and(candidates, matches);
+                if (step.predicate.findsOnlyMatches()) {
+                    continue;
+                }
+            } else {
+                step.testedOn = candidates.cardinality();
+            }
+            untestedPredicate = and(untestedPredicate, step.predicate);
+        }
+        for (Predicate<Person> predicate : unindexedPredicates) {
+            untestedPredicate = and(untestedPredicate, predicate);
+        }
+        resultSize = candidates.cardinality();
+        isResultTested = untestedPredicate == null;
+        return new IndexedFilter(index, candidates, untestedPredicate, fullPredicate);
+    }
+
+    private static Predicate<Person> and(Predicate<Person> first, Predicate<Person> second) {
+        return first == null ? second : first.and(second);
+    }
+
+    private static BitSet and(BitSet candidates, BitSet matches) {
+        candidates.and(matches);
+        return candidates;
+    }
+
+    /**
+     * Returns a description of this plan, including the actual number of matches of each step once it has run.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Query plan (")
+                .append(droppedCount).append(" always-true predicate(s) dropped):");
+        int stepNumber = 1;
+        for (Step step : indexedSteps) {
+            builder.append("\n  ").append(stepNumber++).append(". ");
+            if (step.lookedUp) {
+                builder.append("look up ").append(nameOf(step.predicate))
+                        .append(" (estimated ").append(step.estimate)
+                        .append(step.predicate.findsOnlyMatches() ? ", matched " : ", found candidates ")
+                        .append(step.actual).append(")");
+            } else if (step.testedOn >= 0) {
+                builder.append("test ").append(nameOf(step.predicate))
+                        .append(" on ").append(step.testedOn).append(" candidate(s)")
+                        .append(" (estimated ").append(step.estimate).append(")");
+            } else {
+                builder.append("look up or test ").append(nameOf(step.predicate))
+                        .append(" (estimated ").append(step.estimate).append(")");
+            }
+        }
+        for (Predicate<Person> predicate : unindexedPredicates) {
+            builder.append("\n  ").append(stepNumber++).append(". test ").append(nameOf(predicate))
+                    .append(indexedSteps.isEmpty() ? " on every person" : " on the candidates");
+        }
+        if (resultSize >= 0) {
+            builder.append("\n  Result: ").append(resultSize)
+                    .append(isResultTested ? " person(s)" : " candidate(s) left to test");
+        }
+        return builder.toString();
+    }
+
+    private static String nameOf(Predicate<Person> predicate) {
+        return predicate.getClass().getSimpleName();
+    }
+
+    /**
+     * One indexable predicate of the plan, with its estimated and, once run, actual number of matches.
+     */
+    private static class Step {
+        private final IndexablePredicate predicate;
+        private final int estimate;
+        private boolean lookedUp;
+        private int actual = -1;
+        private int testedOn = -1;
+
+        Step(IndexablePredicate predicate, int estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from the whitespace-separated words of one field of a person to the ids of the persons whose
+ * field contains that word.
+ *
+ * Words are compared ignoring case in the same way as {@link String#equalsIgnoreCase(String)}, so a lookup returns
+ * exactly the persons for which {@code StringUtil.containsWordIgnoreCase} would return true.
+ */
+public class TokenIndex {
+    private final Function<Person, Collection<String>> fieldValues;
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index over the field values returned by {@code fieldValues}.
+     */
+    TokenIndex(Function<Person, Collection<String>> fieldValues) {
+        this.fieldValues = fieldValues;
+    }
+
+    void add(int id, Person person) {
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new PostingList()).add(id);
+        }
+    }
+
+    void remove(int id, Person person) {
+        for (String token : tokensOf(person)) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose field contains any of {@code keywords} as a whole word.
+     */
+    public BitSet findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet matches = new BitSet();
+        for (String keyword : keywords) {
+            PostingList postingList = postings.get(foldCase(keyword.trim()));
+            if (postingList != null) {
+                postingList.addTo(matches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons whose field contains any of {@code keywords}, counting a person once per
+     * keyword it contains.
+     */
+    public int estimateAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            PostingList postingList = postings.get(foldCase(keyword.trim()));
+            estimate += postingList == null ? 0 : postingList.size();
+        }
+        return estimate;
+    }
+
+    private Set<String> tokensOf(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String value : fieldValues.apply(person)) {
+            for (String word : value.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    tokens.add(foldCase(word));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Maps every character of {@code word} to the representative of its case-insensitive equivalence class,
+     * mirroring the per-character comparison done by {@link String#equalsIgnoreCase(String)}.
+     */
+    static String foldCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
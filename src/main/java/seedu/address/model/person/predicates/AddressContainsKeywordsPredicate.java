@@ -1,15 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +24,16 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
     }
 
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        return index.getAddressIndex().findAny(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getAddressIndex().estimateAny(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
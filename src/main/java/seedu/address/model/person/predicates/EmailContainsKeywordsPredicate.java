@@ -1,15 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +24,28 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.isSubstring(person.getEmail().value, keyword));
     }
 
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        BitSet candidates = findCandidates(index);
+        index.retainMatching(candidates, this);
+        return candidates;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getEmailIndex().findCandidates(keywords);
+    }
+
+    @Override
+    public boolean findsOnlyMatches() {
+        return false;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getEmailIndex().estimateCandidates(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,14 +1,16 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import seedu.address.model.person.ModeOfContact;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code ModeOfContact} matches the mode given.
  */
-public class ModeOfContactPredicate implements Predicate<Person> {
+public class ModeOfContactPredicate implements IndexablePredicate {
     private final ModeOfContact modeOfContact;
 
     public ModeOfContactPredicate(ModeOfContact modeOfContact) {
@@ -20,6 +22,16 @@ public class ModeOfContactPredicate implements Predicate<Person> {
         return person.getModeOfContact().equals(modeOfContact);
     }
 
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        return index.getModeOfContactIndex().find(modeOfContact.value);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getModeOfContactIndex().count(modeOfContact.value);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,13 +1,15 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that whether a {@code Person} is blacklisted.
  */
-public class PersonBlacklistedPredicate implements Predicate<Person> {
+public class PersonBlacklistedPredicate implements IndexablePredicate {
     private final boolean isBlacklisted;
 
     public PersonBlacklistedPredicate(boolean isBlacklisted) {
@@ -19,6 +21,16 @@ public class PersonBlacklistedPredicate implements Predicate<Person> {
         return person.getBlacklist().isBlacklisted == isBlacklisted;
     }
 
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        return index.getBlacklistIndex().find(isBlacklisted);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getBlacklistIndex().count(isBlacklisted);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,26 +1,54 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person} has one of his/her {@code Tag}s matches any of the keywords given.
  */
-public class PersonTagContainsKeywordsPredicate implements Predicate<Person> {
+public class PersonTagContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final String[] trimmedKeywords;
 
+    /**
+     * Creates a predicate that matches persons with a tag equal to any of {@code keywords}, ignoring case.
+     */
     public PersonTagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.trimmedKeywords = keywords.stream().map(String::trim).toArray(String[]::new);
     }
 
+    /**
+     * Tag names are single words, so a tag contains a keyword as a word exactly when its name equals the keyword.
+     * This check does not allocate, as it is run for every person when the tag index cannot be used.
+     */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream().anyMatch(
-                    tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
+        TagSet tags = person.getTags();
+        for (int i = 0; i < tags.size(); i++) {
+            String tagName = tags.get(i).tagName;
+            for (String keyword : trimmedKeywords) {
+                if (tagName.equalsIgnoreCase(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        return index.getTagIndex().findAny(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getTagIndex().estimateAny(keywords);
     }
 
     @Override
@@ -1,15 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexablePredicate;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the numbers given.
  */
-public class PhoneContainsNumbersPredicate implements Predicate<Person> {
+public class PhoneContainsNumbersPredicate implements IndexablePredicate {
     private final List<String> numbers;
 
     public PhoneContainsNumbersPredicate(List<String> numbers) {
@@ -22,6 +24,28 @@ public class PhoneContainsNumbersPredicate implements Predicate<Person> {
                 .anyMatch(number -> StringUtil.isSubstring(person.getPhone().value, number));
     }
 
+    @Override
+    public BitSet findMatches(PersonIndex index) {
+        BitSet candidates = findCandidates(index);
+        index.retainMatching(candidates, this);
+        return candidates;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getPhoneIndex().findCandidates(numbers);
+    }
+
+    @Override
+    public boolean findsOnlyMatches() {
+        return false;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getPhoneIndex().estimateCandidates(numbers);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
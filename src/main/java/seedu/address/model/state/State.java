@@ -1,39 +1,158 @@
 package seedu.address.model.state;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListDelta;
 
 /**
  * Represents the different states of the data. This is to facilitate the
- * implementation of undo feature.
- * Guarantees: immutability, non-null
+ * implementation of undo and redo features.
+ *
+ * Only the persons of the current state are kept in full. Every earlier state is kept as the
+ * {@code PersonListDelta} that led from it to the next state, so each undo step costs memory proportional to
+ * the persons changed by the command rather than to the size of the address book.
+ * At most {@code historyLimit} earlier states are kept; older ones are discarded.
  */
 public class State {
-    private final LinkedList<AddressBookCommandPair> addressBookStates;
+
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final int historyLimit;
+
+    /** Changes that led to the current state, oldest first. */
+    private final Deque<StateChange> undoHistory = new ArrayDeque<>();
+
+    /** Changes that were undone, most recently undone first. */
+    private final Deque<StateChange> redoHistory = new ArrayDeque<>();
+
+    private final List<Person> currentPersons = new ArrayList<>();
+    private String currentCommand;
+
+    /** The current state as an address book, built on demand. Null if it has not been built yet. */
+    private AddressBook currentAddressBook;
+
+    /** An address book known to hold the current state, and its modification count at that time. */
+    private ReadOnlyAddressBook matchingAddressBook;
+    private long matchingModificationCount;
 
     /**
-     * Constructs a State object.
+     * Constructs a State object that keeps up to {@code DEFAULT_HISTORY_LIMIT} earlier states.
      */
     public State() {
-        this.addressBookStates = new LinkedList<>();
+        this(DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Constructs a State object that keeps up to {@code historyLimit} earlier states.
+     */
+    public State(int historyLimit) {
+        assert historyLimit >= 0 : "History limit cannot be negative";
+        this.historyLimit = historyLimit;
     }
 
     /**
-     * Adds a new state into the list.
+     * Adds a new state and discards any undone states that could have been redone.
+     * The persons of {@code currState} are copied, so later changes to {@code currState} do not affect this state.
      * @param currState Current state of the data.
      */
     public void addState(ReadOnlyAddressBook currState, String command) {
         assert currState != null;
         assert command != null;
-        this.addressBookStates.add(new AddressBookCommandPair(currState, command));
+
+        if (currentCommand != null) {
+            PersonListDelta delta = PersonListDelta.between(currentPersons, currState.getPersonList());
+            undoHistory.addLast(new StateChange(delta, currentCommand, command));
+            if (undoHistory.size() > historyLimit) {
+                undoHistory.removeFirst();
+            }
+            delta.applyTo(currentPersons);
+        } else {
+            currentPersons.addAll(currState.getPersonList());
+        }
+        currentCommand = command;
+        currentAddressBook = null;
+        redoHistory.clear();
+        rememberMatching(currState);
+    }
+
+    /**
+     * Returns true if {@code addressBook} holds the same persons as the current state.
+     * If {@code addressBook} has not been modified since it was last found to hold the current state, this takes
+     * constant time. Otherwise unchanged persons are compared by reference, so this does not copy either address book.
+     */
+    public boolean isCurrentState(ReadOnlyAddressBook addressBook) {
+        assert addressBook != null;
+        if (currentCommand == null) {
+            return false;
+        }
+        if (addressBook == matchingAddressBook
+                && addressBook.getModificationCount() == matchingModificationCount) {
+            return true;
+        }
+        PersonListDelta delta = PersonListDelta.between(currentPersons, addressBook.getPersonList());
+        if (delta.changesValues()) {
+            return false;
+        }
+        rememberMatching(addressBook);
+        return true;
+    }
+
+    private void rememberMatching(ReadOnlyAddressBook addressBook) {
+        matchingAddressBook = addressBook;
+        matchingModificationCount = addressBook.getModificationCount();
     }
 
     /**
-     * Deletes the latest state.
+     * Returns true if there is an earlier state to go back to.
+     */
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to go forward to.
+     */
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Deletes the latest state and goes back to the one before it. The deleted state can be restored with
+     * {@link #restoreDeletedState()} until a new state is added.
+     * Does nothing if there is no earlier state.
      */
     public void deleteCurrentState() {
-        this.addressBookStates.pollLast();
+        StateChange change = undoHistory.pollLast();
+        if (change == null) {
+            return;
+        }
+        change.delta.invert().applyTo(currentPersons);
+        currentCommand = change.previousCommand;
+        currentAddressBook = null;
+        matchingAddressBook = null;
+        redoHistory.addFirst(change);
+    }
+
+    /**
+     * Restores the most recently deleted state.
+     * Does nothing if there is no deleted state.
+     */
+    public void restoreDeletedState() {
+        StateChange change = redoHistory.pollFirst();
+        if (change == null) {
+            return;
+        }
+        change.delta.applyTo(currentPersons);
+        currentCommand = change.command;
+        currentAddressBook = null;
+        matchingAddressBook = null;
+        undoHistory.addLast(change);
     }
 
     /**
@@ -41,32 +160,70 @@ public class State {
      * @return The current state of the data.
      */
     public AddressBookCommandPair getCurrentState() {
-        return this.addressBookStates.peekLast();
+        return currentCommand == null ? null : new AddressBookCommandPair(getCurrentAddressBook(), currentCommand);
     }
 
     /**
      * Returns the current address book.
      */
     public ReadOnlyAddressBook getCurrentAddressBook() {
-        AddressBookCommandPair lastElement = getCurrentState();
-        return lastElement == null ? null : lastElement.getAddressBook();
+        if (currentCommand == null) {
+            return null;
+        }
+        if (currentAddressBook == null) {
+            currentAddressBook = toAddressBook(currentPersons);
+        }
+        return currentAddressBook;
     }
 
     /**
      * Returns the current command tagged to the address book.
      */
     public String getCurrentCommand() {
-        AddressBookCommandPair lastElement = getCurrentState();
-        return lastElement == null ? null : lastElement.getCurrentCommand();
+        return currentCommand;
+    }
+
+    /**
+     * Returns the command tagged to the most recently deleted state, or null if there is none.
+     */
+    public String getDeletedCommand() {
+        StateChange change = redoHistory.peekFirst();
+        return change == null ? null : change.command;
     }
 
     /**
      * Returns the previous state.
+     * The previous address book is rebuilt from the current one, so this takes time proportional to its size.
      * @return The previous state.
      */
     public AddressBookCommandPair getPreviousState() {
-        return addressBookStates.size() > 1
-                ? this.addressBookStates.get(addressBookStates.size() - 2)
-                : null;
+        StateChange change = undoHistory.peekLast();
+        if (change == null) {
+            return null;
+        }
+        List<Person> previousPersons = new ArrayList<>(currentPersons);
+        change.delta.invert().applyTo(previousPersons);
+        return new AddressBookCommandPair(toAddressBook(previousPersons), change.previousCommand);
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * The change from one state to the next, together with the commands tagged to both states.
+     */
+    private static class StateChange {
+        private final PersonListDelta delta;
+        private final String previousCommand;
+        private final String command;
+
+        StateChange(PersonListDelta delta, String previousCommand, String command) {
+            this.delta = delta;
+            this.previousCommand = previousCommand;
+            this.command = command;
+        }
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** Canonical tags by name, shared by every person with that tag. */
+    private static final Map<String, Tag> canonicalTags = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +31,17 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name, so that persons with the same tag share one instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = canonicalTags.get(tagName);
+        return tag != null ? tag : canonicalTags.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,131 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags that is compact for the few tags most persons have.
+ * The tags are held in an array in the iteration order of a {@code HashSet}, and are looked up by a linear scan.
+ * Only sets larger than {@code MAX_SCANNED_SIZE} keep an additional hash set for lookups.
+ * Guarantees: immutable, every mutator throws {@code UnsupportedOperationException}; contains no nulls.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    /** Largest set that is looked up by scanning its array. */
+    private static final int MAX_SCANNED_SIZE = 8;
+
+    private final Tag[] tags;
+
+    /** Hash set of {@code tags} for lookups, or null if the set is small enough to scan. */
+    private final Set<Tag> lookup;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.lookup = tags.length > MAX_SCANNED_SIZE ? Set.of(tags) : null;
+    }
+
+    /**
+     * Returns an immutable set holding {@code tags}.
+     * Returns {@code tags} itself if it is already a {@code TagSet}, and a shared instance if it is empty.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        requireAllNonNull(tags);
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        return new TagSet(new HashSet<>(tags).toArray(new Tag[0]));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (lookup != null) {
+            return lookup.contains(o);
+        }
+        for (Tag tag : tags) {
+            if (tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the tag at {@code index} in iteration order.
+     * Lets callers go through the tags without creating an iterator.
+     */
+    public Tag get(int index) {
+        return tags[index];
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves to {@code storage} on a background thread, so that a save does not
+ * hold up the caller for as long as the address book takes to write.
+ *
+ * Each save takes a snapshot of the address book, which only copies the list of persons as persons are immutable.
+ * Saves that arrive while an earlier one is still being written are coalesced: only the latest snapshot is written
+ * once the earlier write is done. {@code storage} is only ever written to from the background thread.
+ *
+ * A failed write is passed to {@code failureHandler} on the background thread, and is also thrown by the next call to
+ * {@link #flush()} or {@link #close()}. It is not thrown by a later save, as that save has nothing to do with the
+ * failure. {@link #close()} must be called before the app exits to write any pending snapshot.
+ */
+public class BackgroundAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService executor;
+
+    private final Object lock = new Object();
+
+    /** The latest snapshot that has not been written yet, or null if there is none. Guarded by {@code lock}. */
+    private ReadOnlyAddressBook pendingSnapshot;
+
+    /** The failure of the last write that has not been reported to a caller yet. Guarded by {@code lock}. */
+    private IOException unreportedFailure;
+
+    public BackgroundAddressBookStorage(AddressBookStorage storage) {
+        this(storage, failure -> {});
+    }
+
+    /**
+     * Creates a {@code BackgroundAddressBookStorage} that writes to {@code storage} and passes the failure of any
+     * write to {@code failureHandler}.
+     */
+    public BackgroundAddressBookStorage(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#readAddressBook(Path)}.
+     * Waits for all pending saves to be written first, so that they are included in what is read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        runOnSaverThread(() -> {});
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written and returns without waiting for it.
+     * Saving to any path other than {@link #getAddressBookFilePath()} is done at once, after all pending saves.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            runOnSaverThread(() -> storage.saveAddressBook(addressBook, filePath));
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        synchronized (lock) {
+            boolean isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                executor.execute(this::writePendingSnapshot);
+            }
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot, if it has not already been written by an earlier call.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (lock) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + ioe);
+            synchronized (lock) {
+                unreportedFailure = ioe;
+            }
+            failureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Waits until every snapshot scheduled so far has been written.
+     *
+     * @throws IOException if a write failed since the last time a failure was reported.
+     */
+    public void flush() throws IOException {
+        runOnSaverThread(() -> {});
+        IOException failure;
+        synchronized (lock) {
+            failure = takeUnreportedFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes every pending snapshot and stops the background thread.
+     * Any save made after this is rejected.
+     *
+     * @throws IOException if a write failed since the last time a failure was reported.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private IOException takeUnreportedFailure() {
+        assert Thread.holdsLock(lock);
+        IOException failure = unreportedFailure;
+        unreportedFailure = null;
+        return failure;
+    }
+
+    /**
+     * Runs {@code action} on the background thread after all pending saves and waits for it to finish.
+     */
+    private void runOnSaverThread(IoAction action) throws IOException {
+        try {
+            executor.submit(() -> {
+                action.run();
+                return null;
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * A read-only copy of the persons of an address book at the time it was saved.
+     * Unlike an {@code AddressBook}, it does not check the persons for duplicates again.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+    }
+
+    /**
+     * An action that may fail with an {@code IOException}.
+     */
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ColumnarAddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ModeOfContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@code MAGIC} and {@code VERSION}, followed by the dictionaries of tags and modes of contact,
+ * the blacklist status of every person packed into bits, and the persons. Strings are stored as UTF-8 prefixed by
+ * their length, and each person refers to its mode of contact and tags by their position in the dictionaries.
+ * Lengths, counts and positions are stored as variable-length integers. The file ends with the CRC-32 checksum of
+ * everything before it, and is only read if the checksum matches.
+ *
+ * The persons are read into the columns of a {@link ColumnarAddressBook}, so no {@code Person} is created while the
+ * file is read.
+ *
+ * Files of at least {@code mappedReadThreshold} bytes are mapped into memory and decoded from there, so that the
+ * file is never copied into the heap as a whole. Smaller files are read into an array, which is faster for them.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final long DEFAULT_MAPPED_READ_THRESHOLD = 1 << 20;
+
+    /** The first four bytes of every file, "SEZB" in ASCII. */
+    public static final int MAGIC = 0x53455A42;
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "%1$s is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%1$s has unsupported version %2$d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Checksum of %1$s does not match its content";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final long mappedReadThreshold;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath} that maps files of at least
+     * {@code mappedReadThreshold} bytes into memory to read them.
+     */
+    public BinaryAddressBookStorage(Path filePath, long mappedReadThreshold) {
+        super(filePath);
+        assert mappedReadThreshold >= 0 : "Mapped read threshold cannot be negative";
+        this.mappedReadThreshold = mappedReadThreshold;
+    }
+
+    /**
+     * Returns the path of the binary data file that takes the place of the data file at {@code filePath}.
+     * The extension of {@code filePath}, if any, is replaced by {@code FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFile(Path filePath) throws DataConversionException {
+        try {
+            return decode(filePath, read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException | IllegalArgumentException | BufferUnderflowException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the content of the file at {@code filePath}, mapped into memory if the file is large enough.
+     */
+    private ByteBuffer read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < mappedReadThreshold || !canMapSafely()) {
+                return ByteBuffer.wrap(Files.readAllBytes(filePath));
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Returns true if a mapped file can still be replaced while its mapping is waiting to be garbage collected.
+     * Windows does not allow a file to be renamed while it is mapped, which would make the next save fail.
+     */
+    private static boolean canMapSafely() {
+        return !System.getProperty("os.name").startsWith("Windows");
+    }
+
+    private static ColumnarAddressBook decode(Path filePath, ByteBuffer in) throws IllegalValueException {
+        int length = in.remaining();
+        if (length < Integer.BYTES * 2 + Long.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_ADDRESS_BOOK, filePath));
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+        }
+        int checksummedLength = length - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(in.duplicate().position(0).limit(checksummedLength));
+        if (checksum.getValue() != in.getLong(checksummedLength)) {
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, filePath));
+        }
+        in.limit(checksummedLength);
+
+        Tag[] tagDictionary = new Tag[readCount(in)];
+        for (int i = 0; i < tagDictionary.length; i++) {
+            tagDictionary[i] = Tag.of(readString(in));
+        }
+        ModeOfContact[] modeDictionary = new ModeOfContact[readCount(in)];
+        for (int i = 0; i < modeDictionary.length; i++) {
+            modeDictionary[i] = ModeOfContact.of(readString(in));
+        }
+
+        int personCount = readCount(in);
+        byte[] blacklistBits = new byte[getBlacklistLength(personCount)];
+        in.get(blacklistBits);
+        BitSet blacklisted = BitSet.valueOf(blacklistBits);
+
+        ColumnarAddressBook.Builder builder = new ColumnarAddressBook.Builder(personCount);
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String address = readString(in);
+            String remark = readString(in);
+            ModeOfContact modeOfContact = modeDictionary[readCode(in, modeDictionary.length)];
+            List<Tag> tags = new ArrayList<>();
+            for (int tagCount = readCount(in); tagCount > 0; tagCount--) {
+                tags.add(tagDictionary[readCode(in, tagDictionary.length)]);
+            }
+            builder.addPerson(name, phone, email, address, remark, modeOfContact, blacklisted.get(i), tags);
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_ADDRESS_BOOK, filePath));
+        }
+
+        try {
+            return builder.build();
+        } catch (DuplicatePersonException dpe) {
+            throw JsonSerializableAddressBook.toIllegalValueException(dpe);
+        }
+    }
+
+    private static int getBlacklistLength(int personCount) {
+        return (personCount + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * Reads a variable-length integer that counts things stored in the rest of {@code in}.
+     * As each of those things takes at least one byte, the count cannot be more than the remaining bytes.
+     */
+    private static int readCount(ByteBuffer in) throws IllegalValueException {
+        int count = readVariableLengthInt(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalValueException("Count " + count + " is out of range");
+        }
+        return count;
+    }
+
+    /**
+     * Reads a variable-length integer that is the position of a value in a dictionary of {@code dictionarySize}.
+     */
+    private static int readCode(ByteBuffer in, int dictionarySize) throws IllegalValueException {
+        int code = readVariableLengthInt(in);
+        if (code < 0 || code >= dictionarySize) {
+            throw new IllegalValueException("Code " + code + " is out of range");
+        }
+        return code;
+    }
+
+    private static int readVariableLengthInt(ByteBuffer in) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException("Malformed variable-length integer");
+    }
+
+    private static String readString(ByteBuffer in) throws IllegalValueException {
+        byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagCodes = new HashMap<>();
+        Map<ModeOfContact, Integer> modeCodes = new HashMap<>();
+        BitSet blacklisted = new BitSet(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            for (Tag tag : person.getTags()) {
+                tagCodes.putIfAbsent(tag, tagCodes.size());
+            }
+            modeCodes.putIfAbsent(person.getModeOfContact(), modeCodes.size());
+            blacklisted.set(i, person.getBlacklistStatus());
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            writeVariableLengthInt(out, tagCodes.size());
+            for (Tag tag : inCodeOrder(tagCodes)) {
+                writeString(out, tag.tagName);
+            }
+            writeVariableLengthInt(out, modeCodes.size());
+            for (ModeOfContact modeOfContact : inCodeOrder(modeCodes)) {
+                writeString(out, modeOfContact.value);
+            }
+
+            writeVariableLengthInt(out, persons.size());
+            byte[] blacklistBits = new byte[getBlacklistLength(persons.size())];
+            byte[] setBits = blacklisted.toByteArray();
+            System.arraycopy(setBits, 0, blacklistBits, 0, setBits.length);
+            out.write(blacklistBits);
+
+            for (Person person : persons) {
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                writeString(out, person.getRemark().value);
+                writeVariableLengthInt(out, modeCodes.get(person.getModeOfContact()));
+                TagSet tags = person.getTags();
+                writeVariableLengthInt(out, tags.size());
+                for (int i = 0; i < tags.size(); i++) {
+                    writeVariableLengthInt(out, tagCodes.get(tags.get(i)));
+                }
+            }
+
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    private static <T> List<T> inCodeOrder(Map<T, Integer> codes) {
+        List<T> values = new ArrayList<>(codes.keySet());
+        values.sort((first, second) -> codes.get(first) - codes.get(second));
+        return values;
+    }
+
+    /**
+     * Writes {@code value} seven bits at a time, lowest bits first, with the highest bit of each byte set if more
+     * bytes follow.
+     */
+    private static void writeVariableLengthInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVariableLengthInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+}
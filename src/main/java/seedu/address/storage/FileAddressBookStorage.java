@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book in a single data file on the hard disk.
+ *
+ * A save writes a temporary file next to the data file and then renames it over the data file, so a save that is
+ * interrupted never leaves a partially written data file behind. The previous data file is kept as a backup, which
+ * is read instead if the data file is missing or cannot be read.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+
+    protected FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the backup of the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the temporary file that is written before it replaces the data file at {@code filePath}.
+     */
+    public static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file is missing or cannot be read, its backup is read instead, if there is one.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format and there is no readable backup.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = readIfExists(filePath);
+        } catch (DataConversionException dce) {
+            Optional<ReadOnlyAddressBook> backup = readBackup(filePath);
+            if (backup.isEmpty()) {
+                throw dce;
+            }
+            return backup;
+        }
+        return addressBook.isPresent() ? addressBook : readBackup(filePath);
+    }
+
+    /**
+     * Reads the backup of the data file at {@code filePath}.
+     * Returns {@code Optional.empty()} if there is no backup or it cannot be read either.
+     */
+    private Optional<ReadOnlyAddressBook> readBackup(Path filePath) {
+        Path backupFilePath = getBackupFilePath(filePath);
+        if (!Files.exists(backupFilePath)) {
+            return Optional.empty();
+        }
+
+        logger.warning("Recovering address book from backup " + backupFilePath);
+        try {
+            return readIfExists(backupFilePath);
+        } catch (DataConversionException dce) {
+            logger.warning("Backup " + backupFilePath + " cannot be read either");
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readIfExists(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+        return Optional.of(readFile(filePath));
+    }
+
+    /**
+     * Reads the address book from the existing data file at {@code filePath}.
+     *
+     * @throws DataConversionException if the file cannot be read or is not in the correct format.
+     */
+    protected abstract ReadOnlyAddressBook readFile(Path filePath) throws DataConversionException;
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file that then replaces the file at {@code filePath}.
+     * The replaced file is kept as its backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = getTempFilePath(filePath);
+        writeFile(addressBook, tempFilePath);
+        FileUtil.replaceFile(tempFilePath, filePath, getBackupFilePath(filePath));
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, overwriting it if it exists.
+     * The file must be on the storage device when this returns.
+     */
+    protected abstract void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves to {@code storage}, but reads from {@code importStorage} instead if the
+ * data of {@code importStorage} was saved more recently than that of {@code storage}.
+ *
+ * This converts the data file between formats without losing data: after switching to a new format, the data last
+ * saved in the old format is read once, and is saved in the new format from then on. Switching back later reads the
+ * data saved in the new format in the same way.
+ */
+public class ImportingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ImportingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final AddressBookStorage importStorage;
+
+    /**
+     * Creates an {@code ImportingAddressBookStorage} that saves to {@code storage} and imports from
+     * {@code importStorage}.
+     */
+    public ImportingAddressBookStorage(AddressBookStorage storage, AddressBookStorage importStorage) {
+        requireNonNull(storage);
+        requireNonNull(importStorage);
+        this.storage = storage;
+        this.importStorage = importStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If {@code filePath} is the data file of {@code storage}, reads from {@code importStorage} instead if it was
+     * saved more recently. Any other file is read by {@code storage}.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path importFilePath = importStorage.getAddressBookFilePath();
+        if (filePath.equals(getAddressBookFilePath())
+                && getLastSavedTime(importFilePath).compareTo(getLastSavedTime(filePath)) > 0) {
+            logger.info("Importing address book from " + importFilePath);
+            return importStorage.readAddressBook();
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns the time the data at {@code filePath} was last saved, including to its journal.
+     * Returns the earliest possible time if it has never been saved.
+     */
+    private static FileTime getLastSavedTime(Path filePath) throws IOException {
+        FileTime lastSavedTime = FileTime.fromMillis(Long.MIN_VALUE);
+        for (Path path : new Path[] {filePath, JournaledAddressBookStorage.getJournalFilePath(filePath)}) {
+            if (Files.exists(path) && Files.getLastModifiedTime(path).compareTo(lastSavedTime) > 0) {
+                lastSavedTime = Files.getLastModifiedTime(path);
+            }
+        }
+        return lastSavedTime;
+    }
+
+}
@@ -0,0 +1,293 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListDelta;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot of the address book in {@code snapshotStorage} and
+ * appends the changes made since that snapshot to a journal file next to it, one line per save.
+ * Once the journal holds more than {@code compactionThreshold} persons, the next save writes a fresh snapshot
+ * and empties the journal.
+ *
+ * A save that changes nothing does not touch the disk, and a save that edits a single person appends a single line.
+ * The first line of the journal holds the checksum of the snapshot its entries were recorded against.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Persons as of the last snapshot plus journal, or null if the files on disk are not known to match. */
+    private List<Person> lastSavedPersons;
+    private int journalSize;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal into {@code snapshotStorage}
+     * once the journal holds more than {@code compactionThreshold} persons.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold >= 0 : "Compaction threshold cannot be negative";
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     *
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> rememberSaved(filePath, addressBook.getPersonList(), 0));
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        int replayedSize = replayJournal(journalFilePath, persons);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Journal " + journalFilePath + " results in duplicate persons: " + dpe.getMessage());
+            throw new DataConversionException(dpe);
+        }
+        rememberSaved(filePath, addressBook.getPersonList(), replayedSize);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Replays every entry of the journal at {@code journalFilePath} onto {@code persons}.
+     * Returns the number of persons recorded in the journal.
+     *
+     * The journal is not replayed if it was recorded against a different snapshot than {@code persons}, such as
+     * when the snapshot it was recorded against could not be read and its backup was read instead.
+     * A save only completes once its whole line is on the storage device, so a last line that is cut short or cannot
+     * be parsed belongs to a save that never completed. It is cut off the journal instead of failing the read.
+     */
+    private int replayJournal(Path journalFilePath, List<Person> persons) throws DataConversionException {
+        int replayedSize = 0;
+        try {
+            List<String> lines = readCompleteLines(journalFilePath);
+            if (lines.isEmpty()) {
+                return 0;
+            }
+
+            Optional<JsonAdaptedJournalHeader> header =
+                    parseLine(journalFilePath, lines, 0, JsonAdaptedJournalHeader.class);
+            if (header.isEmpty()) {
+                return 0;
+            }
+            if (!header.get().isRecordedAgainst(getChecksum(persons))) {
+                logger.warning("Journal " + journalFilePath + " was recorded against a different snapshot than the "
+                        + "one read, and is not replayed");
+                return 0;
+            }
+
+            for (int i = 1; i < lines.size(); i++) {
+                if (lines.get(i).isBlank()) {
+                    continue;
+                }
+                Optional<JsonAdaptedJournalEntry> entry =
+                        parseLine(journalFilePath, lines, i, JsonAdaptedJournalEntry.class);
+                if (entry.isEmpty()) {
+                    break;
+                }
+                entry.get().applyTo(persons);
+                replayedSize += entry.get().size();
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Journal " + journalFilePath + " could not be replayed: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return replayedSize;
+    }
+
+    /**
+     * Returns the lines of the journal at {@code journalFilePath} that end with a line separator.
+     * A last line without one is cut off the journal.
+     */
+    private static List<String> readCompleteLines(Path journalFilePath) throws IOException {
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        List<String> lines = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] == '\n') {
+                lines.add(new String(journal, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < journal.length) {
+            truncateIncompleteSave(journalFilePath, lineStart);
+        }
+        return lines;
+    }
+
+    /**
+     * Parses the line at {@code index} of {@code lines} as a {@code lineClass}.
+     * Returns {@code Optional.empty()} if it is the last line and cannot be parsed, after cutting it off the journal.
+     */
+    private static <T> Optional<T> parseLine(Path journalFilePath, List<String> lines, int index, Class<T> lineClass)
+            throws IOException {
+        String line = lines.get(index);
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, lineClass));
+        } catch (IOException ioe) {
+            if (index < lines.size() - 1) {
+                throw ioe;
+            }
+            long lineLength = line.getBytes(StandardCharsets.UTF_8).length + 1;
+            truncateIncompleteSave(journalFilePath, Files.size(journalFilePath) - lineLength);
+            return Optional.empty();
+        }
+    }
+
+    private static void truncateIncompleteSave(Path journalFilePath, long size) throws IOException {
+        logger.warning("Discarding incomplete save at the end of journal " + journalFilePath);
+        FileUtil.truncateFile(journalFilePath, size);
+    }
+
+    /**
+     * Returns the checksum of a snapshot holding {@code persons}, which identifies the snapshot in its journal.
+     * It only depends on the values of the persons, so it does not change between runs of the app.
+     */
+    private static int getChecksum(List<Person> persons) {
+        return persons.hashCode();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes since the last save to the journal, or writes a full snapshot if the journal has grown
+     * past the compaction threshold or the previous state on disk is not known.
+     * Saving to any path other than {@link #getAddressBookFilePath()} always writes a full snapshot.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (lastSavedPersons == null) {
+            compact(addressBook);
+            return;
+        }
+
+        PersonListDelta delta = PersonListDelta.between(lastSavedPersons, addressBook.getPersonList());
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (journalSize + delta.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        String journalLines = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(delta)) + System.lineSeparator();
+        try {
+            if (journalSize == 0) {
+                // any existing journal holds no entries recorded against the last snapshot, so start a new one
+                Files.deleteIfExists(journalFilePath);
+                journalLines = JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(getChecksum(lastSavedPersons)))
+                        + System.lineSeparator() + journalLines;
+            }
+            FileUtil.appendToFileAndForce(journalFilePath, journalLines);
+        } catch (IOException ioe) {
+            // the journal may now end with a partial entry, so fall back to a fresh snapshot on the next save
+            lastSavedPersons = null;
+            throw ioe;
+        }
+        delta.applyTo(lastSavedPersons);
+        journalSize += delta.size();
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} and empties the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        lastSavedPersons = null;
+        writeSnapshot(addressBook, filePath);
+        logger.fine("Compacted address book journal into " + filePath);
+        rememberSaved(filePath, addressBook.getPersonList(), 0);
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath}, then deletes the old journal.
+     * If the snapshot cannot be written, the old journal is kept along with the old snapshot. If this is interrupted
+     * before the old journal is deleted, it is not replayed onto the new snapshot, as it was recorded against the old
+     * one.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    private void rememberSaved(Path filePath, List<Person> persons, int journalSize) {
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return;
+        }
+        this.lastSavedPersons = new ArrayList<>(persons);
+        this.journalSize = journalSize;
+    }
+
+}
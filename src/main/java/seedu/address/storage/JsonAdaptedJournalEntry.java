@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListDelta;
+
+/**
+ * Jackson-friendly version of a {@link PersonListDelta}, as recorded in an address book journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry does not fit the address book.";
+
+    private final List<JsonAdaptedJournalRun> runs;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given runs.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("runs") List<JsonAdaptedJournalRun> runs) {
+        this.runs = runs == null ? null : new ArrayList<>(runs);
+    }
+
+    /**
+     * Converts a given {@code PersonListDelta} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(PersonListDelta source) {
+        runs = source.getRuns().stream()
+                .map(JsonAdaptedJournalRun::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of persons touched by this entry.
+     */
+    public int size() {
+        return runs == null ? 0 : runs.stream().mapToInt(JsonAdaptedJournalRun::size).sum();
+    }
+
+    /**
+     * Replays this entry onto {@code persons}.
+     *
+     * @throws IllegalValueException if the entry does not fit {@code persons} or an added person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (runs == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+
+        List<PersonListDelta.Run> modelRuns = new ArrayList<>(runs.size());
+        int minFrom = 0;
+        int shift = 0;
+        for (JsonAdaptedJournalRun run : runs) {
+            int sourceFrom = run.getFrom() - shift;
+            if (run.getFrom() < minFrom || run.getRemoved() < 0 || sourceFrom + run.getRemoved() > persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+            }
+            PersonListDelta.Run modelRun = run.toModelType(persons, sourceFrom);
+            modelRuns.add(modelRun);
+            minFrom = run.getFrom() + modelRun.getAdded().size();
+            shift += modelRun.getAdded().size() - modelRun.getRemoved().size();
+        }
+        new PersonListDelta(modelRuns).applyTo(persons);
+    }
+
+}
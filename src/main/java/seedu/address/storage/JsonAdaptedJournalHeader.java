@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the first line of an address book journal.
+ * It identifies the snapshot that the entries of the journal were recorded against.
+ */
+class JsonAdaptedJournalHeader {
+
+    public static final String MESSAGE_MISSING_CHECKSUM = "Journal does not start with a snapshot checksum.";
+
+    private final Integer snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given {@code snapshotChecksum}.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") Integer snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public Integer getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Returns true if the journal was recorded against a snapshot with the given {@code snapshotChecksum}.
+     *
+     * @throws IllegalValueException if this header has no snapshot checksum.
+     */
+    public boolean isRecordedAgainst(int snapshotChecksum) throws IllegalValueException {
+        if (this.snapshotChecksum == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_CHECKSUM);
+        }
+        return this.snapshotChecksum == snapshotChecksum;
+    }
+
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListDelta;
+
+/**
+ * Jackson-friendly version of a {@link PersonListDelta.Run}, as recorded in an address book journal.
+ * Only the number of removed persons is kept, as that is all that is needed to replay the run.
+ */
+class JsonAdaptedJournalRun {
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRun} with the given run details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRun(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code PersonListDelta.Run} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalRun(PersonListDelta.Run source) {
+        from = source.getFrom();
+        removed = source.getRemoved().size();
+        added.addAll(source.getAdded().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the number of persons touched by this run.
+     */
+    public int size() {
+        return removed + added.size();
+    }
+
+    /**
+     * Converts this run into the model's {@code PersonListDelta.Run}, removing the persons starting at
+     * {@code sourceFrom} of {@code persons}.
+     *
+     * @throws IllegalValueException if an added person is invalid.
+     */
+    public PersonListDelta.Run toModelType(List<Person> persons, int sourceFrom) throws IllegalValueException {
+        List<Person> addedPersons = new ArrayList<>(added.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : added) {
+            addedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return new PersonListDelta.Run(from, persons.subList(sourceFrom, sourceFrom + removed), addedPersons);
+    }
+
+}
@@ -128,13 +128,13 @@ class JsonAdaptedPerson {
         if (!ModeOfContact.isValidModeOfContact(modeOfContact)) {
             throw new IllegalValueException(ModeOfContact.MESSAGE_CONSTRAINTS);
         }
-        final ModeOfContact modelModeOfContact = new ModeOfContact(modeOfContact);
+        final ModeOfContact modelModeOfContact = ModeOfContact.of(modeOfContact);
 
         if (isBlacklisted == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Blacklist.class.getSimpleName()));
         }
-        final Blacklist modelBlacklist = new Blacklist(isBlacklisted);
+        final Blacklist modelBlacklist = Blacklist.of(isBlacklisted);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRemark,
@@ -1,80 +1,68 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file ends with a checksum, and is only read if the checksum matches its content.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
-    private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
+        this(filePath, false);
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
-        return readAddressBook(filePath);
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     * If {@code isCompact} is true, the file is written without line breaks or indentation.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        super(filePath);
+        this.isCompact = isCompact;
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * Each person is converted to the model and validated as soon as it is read from the file, so only one person at
+     * a time is held in its Json form.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+    @Override
+    protected ReadOnlyAddressBook readFile(Path filePath) throws DataConversionException {
+        List<Person> persons = new ArrayList<>();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonUtil.readJsonArrayField(filePath, "persons", JsonAdaptedPerson.class,
+                person -> persons.add(person.toModelType()));
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
-    @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
-    }
-
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Persons are written straight from the person list of {@code addressBook}, one at a time.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, "persons", addressBook.getPersonList(), JsonAdaptedPerson::new,
+                isCompact);
     }
 
 }
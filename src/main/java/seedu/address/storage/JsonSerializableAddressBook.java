@@ -11,7 +11,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,7 +21,8 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Persons list contains duplicate person(s) with the email(s): %1$s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +49,36 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Creates the model's {@code AddressBook} object holding {@code modelPersons}.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw toIllegalValueException(dpe);
         }
         return addressBook;
     }
 
+    /**
+     * Returns the exception that reports the duplicate persons of {@code dpe} as invalid data.
+     */
+    static IllegalValueException toIllegalValueException(DuplicatePersonException dpe) {
+        String duplicateEmails = dpe.getDuplicateEmails().stream()
+                .map(Email::toString)
+                .collect(Collectors.joining(", "));
+        return new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, duplicateEmails));
+    }
+
 }
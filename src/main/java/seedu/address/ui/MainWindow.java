@@ -197,6 +197,15 @@ public class MainWindow extends UiPart<Stage> {
 
     }
 
+    /**
+     * Shows {@code feedback} in the result display, if it has been created.
+     */
+    void showFeedbackToUser(String feedback) {
+        if (resultDisplay != null) {
+            resultDisplay.setFeedbackToUser(feedback);
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
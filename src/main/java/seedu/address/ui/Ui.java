@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code feedback} in the result display.
+     * Can be called from any thread.
+     */
+    void showFeedbackToUser(String feedback);
+
 }
@@ -1,12 +1,22 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +49,108 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayField_otherFieldsAround_readsElementsInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{ \"before\" : { \"values\" : [ 0 ] }, \"values\" : [ 1, 2, 3 ], \"after\" : [ 4 ] }");
+        List<Integer> values = new ArrayList<>();
+
+        JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, values::add);
+
+        assertEquals(Arrays.asList(1, 2, 3), values);
+    }
+
+    @Test
+    public void readJsonArrayField_missingOrNullField_readsNothing() throws Exception {
+        List<Integer> values = new ArrayList<>();
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : [ 1 ] }");
+        JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, values::add);
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"values\" : null }");
+        JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, values::add);
+
+        assertEquals(Collections.emptyList(), values);
+    }
+
+    @Test
+    public void readJsonArrayField_invalidFormat_throwsIoException() throws Exception {
+        String[] invalidJsons = {"", "[ 1 ]", "{ \"values\" : 1 }", "{ \"values\" : [ 1, null ] }",
+            "{ \"values\" : [ 1, 2 "};
+        for (String json : invalidJsons) {
+            FileUtil.writeToFile(SERIALIZATION_FILE, json);
+            assertThrows(IOException.class, () ->
+                    JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, value -> {}));
+        }
+    }
+
+    @Test
+    public void readJsonArrayField_elementRejected_stopsReading() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"values\" : [ 1, 2, 3 ] }");
+        List<Integer> values = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, () ->
+                JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, value -> {
+                    if (value == 2) {
+                        throw new IllegalValueException("rejected");
+                    }
+                    values.add(value);
+                }));
+        assertEquals(Collections.singletonList(1), values);
+    }
+
+    @Test
+    public void saveJsonArrayFile_thenRead_checksumVerified() throws Exception {
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "values", Arrays.asList(1, 2, 3), Function.identity(), true);
+        List<Integer> values = new ArrayList<>();
+        JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, values::add);
+        assertEquals(Arrays.asList(1, 2, 3), values);
+
+        String content = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertTrue(content.startsWith("{\"values\":[1,2,3],\"" + JsonUtil.CHECKSUM_FIELD_NAME + "\":"));
+        FileUtil.writeToFile(SERIALIZATION_FILE, content.replace("[1,2,3]", "[1,5,3]"));
+        assertThrows(IllegalValueException.class, () ->
+                JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "values", Integer.class, value -> {}));
+    }
+
+    @Test
+    public void writeJsonArray_manyElements_flushedOnce() throws Exception {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            elements.add(i);
+        }
+        CountingOutputStream out = new CountingOutputStream();
+        JsonUtil.writeJsonArray(out, "values", elements, Function.identity(), false);
+
+        assertEquals(1, out.flushCount);
+        assertTrue(out.writeCount < elements.size() / 100);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("\"" + JsonUtil.CHECKSUM_FIELD_NAME + "\""));
+    }
+
+    /**
+     * An in-memory stream that counts the calls made to write to it and to flush it.
+     */
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int writeCount;
+        private int flushCount;
+
+        @Override
+        public synchronized void write(int b) {
+            writeCount++;
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writeCount++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
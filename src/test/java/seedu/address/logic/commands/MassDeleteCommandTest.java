@@ -8,14 +8,19 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_NINTH_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SEVENTH_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for {@code MassDeleteCommand}.
@@ -39,6 +44,39 @@ public class MassDeleteCommandTest {
         assertCommandSuccess(massDeleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_filteredList_deletesListedPersons() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPersonList(predicate);
+        MassDeleteCommand massDeleteCommand = new MassDeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        String expectedMessage = String.format(MassDeleteCommand.MESSAGE_MASS_DELETE_PERSON_SUCCESS,
+                INDEX_FIRST_PERSON.getOneBased(), INDEX_SECOND_PERSON.getOneBased());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.deletePerson(DANIEL);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(massDeleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allListed_success() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPersonList(predicate);
+        MassDeleteCommand massDeleteCommand = new MassDeleteCommand();
+
+        String expectedMessage = String.format(MassDeleteCommand.MESSAGE_MASS_DELETE_ALL_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.deletePerson(DANIEL);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(massDeleteCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidStartIndex_throwsCommandException() {
         MassDeleteCommand massDeleteCommand = new MassDeleteCommand(INDEX_SEVENTH_PERSON,
@@ -75,5 +113,9 @@ public class MassDeleteCommandTest {
 
         // different index range -> return false
         assertFalse(firstMassDeleteCommand.equals(secondMassDeleteCommand));
+
+        // all listed persons -> return false
+        assertFalse(firstMassDeleteCommand.equals(new MassDeleteCommand()));
+        assertTrue(new MassDeleteCommand().equals(new MassDeleteCommand()));
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_NINTH_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MassTagCommand}.
+ */
+public class MassTagCommandTest {
+
+    private static final Set<Tag> TAGS = Set.of(new Tag(VALID_TAG_HUSBAND));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndexRange_success() {
+        MassTagCommand massTagCommand = new MassTagCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON, TAGS);
+
+        String expectedMessage = String.format(MassTagCommand.MESSAGE_MASS_TAG_SUCCESS,
+                INDEX_FIRST_PERSON.getOneBased(), INDEX_THIRD_PERSON.getOneBased());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, ALICE.addTags(TAGS));
+        expectedModel.setPerson(BENSON, BENSON.addTags(TAGS));
+        expectedModel.setPerson(CARL, CARL.addTags(TAGS));
+
+        assertCommandSuccess(massTagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allListed_success() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPersonList(predicate);
+        MassTagCommand massTagCommand = new MassTagCommand(TAGS);
+
+        String expectedMessage = String.format(MassTagCommand.MESSAGE_MASS_TAG_ALL_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(BENSON, BENSON.addTags(TAGS));
+        expectedModel.setPerson(DANIEL, DANIEL.addTags(TAGS));
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(massTagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidStartIndex_throwsCommandException() {
+        MassTagCommand massTagCommand = new MassTagCommand(INDEX_THIRD_PERSON, INDEX_FIRST_PERSON, TAGS);
+
+        assertCommandFailure(massTagCommand, model, Messages.MESSAGE_INVALID_START_INDEX);
+    }
+
+    @Test
+    public void execute_invalidEndIndex_throwsCommandException() {
+        MassTagCommand massTagCommand = new MassTagCommand(INDEX_FIRST_PERSON, INDEX_NINTH_PERSON, TAGS);
+
+        assertCommandFailure(massTagCommand, model, Messages.MESSAGE_INVALID_END_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MassTagCommand firstMassTagCommand = new MassTagCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, TAGS);
+
+        // same object -> return true
+        assertTrue(firstMassTagCommand.equals(firstMassTagCommand));
+
+        // same values -> return true
+        assertTrue(firstMassTagCommand.equals(new MassTagCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, TAGS)));
+
+        // different types -> return false
+        assertFalse(firstMassTagCommand.equals(1));
+
+        // null -> return false
+        assertFalse(firstMassTagCommand.equals(null));
+
+        // different index range -> return false
+        assertFalse(firstMassTagCommand.equals(new MassTagCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON, TAGS)));
+
+        // different tags -> return false
+        assertFalse(firstMassTagCommand.equals(new MassTagCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                Set.of(new Tag(VALID_TAG_FRIEND)))));
+
+        // all listed persons -> return false
+        assertFalse(firstMassTagCommand.equals(new MassTagCommand(TAGS)));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.ADD_WORD;
+import static seedu.address.logic.commands.CommandTestUtil.EMPTY_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.state.State;
+import seedu.address.testutil.PersonBuilder;
+
+public class RedoCommandTest {
+    private AddressBook addressBook = getTypicalAddressBook();
+    private Model model = new ModelManager(addressBook, new UserPrefs());
+    private State state;
+
+    @BeforeEach
+    public void setUp() {
+        state = new State();
+        state.addState(addressBook, EMPTY_COMMAND);
+    }
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        assertCommandFailure(new RedoCommand(state), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_success() {
+        try {
+            // execute add command
+            AddCommand addCommand = new AddCommand(new PersonBuilder().build());
+            addCommand.execute(model);
+            AddressBook afterAdd = new AddressBook(model.getAddressBook());
+            state.addState(afterAdd, ADD_WORD);
+
+            // undo then redo the add command
+            new UndoCommand(state).execute(model);
+            Model expectedModel = new ModelManager(afterAdd, new UserPrefs());
+            assertCommandSuccess(new RedoCommand(state), model,
+                    String.format(RedoCommand.MESSAGE_SUCCESS, ADD_WORD), expectedModel);
+            assertEquals(afterAdd, state.getCurrentAddressBook());
+            assertEquals(ADD_WORD, state.getCurrentCommand());
+
+            // nothing left to redo
+            assertCommandFailure(new RedoCommand(state), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+        } catch (CommandException e) {
+            throw new AssertionError("Command execution should not fail.");
+        }
+    }
+}
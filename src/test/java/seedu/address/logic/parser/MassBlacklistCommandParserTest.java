@@ -29,6 +29,12 @@ public class MassBlacklistCommandParserTest {
                 INDEX_SEVENTH_PERSON, MASSBLACKLIST_BLACKLIST));
     }
 
+    @Test
+    public void parse_allKeyword_returnsMassBlacklistCommand() {
+        assertParseSuccess(parser, " all " + PREFIX_BLACKLIST + VALID_MASSBLACKLIST_KEYWORD_BLACKLIST,
+                new MassBlacklistCommand(MASSBLACKLIST_BLACKLIST));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, INVALID_INPUT, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
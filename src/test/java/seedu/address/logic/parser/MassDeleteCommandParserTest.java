@@ -25,6 +25,11 @@ public class MassDeleteCommandParserTest {
                 INDEX_SEVENTH_PERSON));
     }
 
+    @Test
+    public void parse_allKeyword_returnsMassDeleteCommand() {
+        assertParseSuccess(parser, " all ", new MassDeleteCommand());
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, INVALID_INPUT, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
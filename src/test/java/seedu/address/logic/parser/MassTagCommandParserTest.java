@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SEVENTH_PERSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MassTagCommand;
+import seedu.address.model.tag.Tag;
+
+public class MassTagCommandParserTest {
+
+    private static final String VALID_RANGE = INDEX_FIRST_PERSON.getOneBased() + "-"
+            + INDEX_SEVENTH_PERSON.getOneBased();
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MassTagCommand.MESSAGE_USAGE);
+
+    private MassTagCommandParser parser = new MassTagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMassTagCommand() {
+        assertParseSuccess(parser, VALID_RANGE + TAG_DESC_FRIEND + TAG_DESC_HUSBAND,
+                new MassTagCommand(INDEX_FIRST_PERSON, INDEX_SEVENTH_PERSON,
+                        Set.of(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND))));
+    }
+
+    @Test
+    public void parse_allKeyword_returnsMassTagCommand() {
+        assertParseSuccess(parser, " all" + TAG_DESC_FRIEND, new MassTagCommand(Set.of(new Tag(VALID_TAG_FRIEND))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no tags
+        assertParseFailure(parser, VALID_RANGE, MESSAGE_INVALID_FORMAT);
+
+        // invalid tag
+        assertParseFailure(parser, VALID_RANGE + INVALID_TAG_DESC, MESSAGE_INVALID_FORMAT);
+
+        // invalid range
+        assertParseFailure(parser, "-" + TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+    }
+}
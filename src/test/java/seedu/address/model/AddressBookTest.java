@@ -94,6 +94,20 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_afterMutation_changes() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd != initialCount);
+
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() != countAfterAdd);
+    }
+
     @Test
     public void sortByName_ascendingOrder_success() {
         addressBook.addPerson(BOB);
@@ -126,6 +140,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ModeOfContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    private final ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_emptyList_isEmpty() {
+        ColumnarAddressBook emptyAddressBook = new ColumnarAddressBook(Collections.emptyList());
+        assertEquals(0, emptyAddressBook.size());
+        assertEquals(Collections.emptyList(), emptyAddressBook.getPersonList());
+    }
+
+    @Test
+    public void getPersonList_typicalPersons_materializesEqualPersons() {
+        assertEquals(getTypicalPersons(), columnarAddressBook.getPersonList());
+        assertEquals(getTypicalAddressBook(), new AddressBook(columnarAddressBook));
+    }
+
+    @Test
+    public void getPersonList_samePosition_returnsEqualPersons() {
+        assertEquals(columnarAddressBook.getPersonList().get(1), columnarAddressBook.getPersonList().get(1));
+    }
+
+    @Test
+    public void constructor_duplicatePersons_throwsDuplicatePersonException() {
+        Person aliceDuplicate = new PersonBuilder(ALICE).withName("Alice Duplicate").build();
+        assertThrows(DuplicatePersonException.class, () -> new ColumnarAddressBook(List.of(ALICE, aliceDuplicate)));
+    }
+
+    @Test
+    public void builder_invalidField_throwsIllegalArgumentException() {
+        ColumnarAddressBook.Builder builder = new ColumnarAddressBook.Builder(1);
+        assertThrows(IllegalArgumentException.class, Phone.MESSAGE_CONSTRAINTS, () -> builder.addPerson(
+                "Alice", "not a phone", "alice@example.com", "Street 1", "", ModeOfContact.PHONE, false, List.of()));
+    }
+
+    @Test
+    public void builder_allPersonsAdded_buildsAddressBook() {
+        ColumnarAddressBook built = new ColumnarAddressBook.Builder(1)
+                .addPerson(ALICE.getName().fullName, ALICE.getPhone().value, ALICE.getEmail().value,
+                        ALICE.getAddress().value, "", ALICE.getModeOfContact(), false, ALICE.getTags())
+                .build();
+        assertEquals(List.of(ALICE), built.getPersonList());
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarAddressBook.Builder(2).build());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void columnAccessors_typicalPersons_returnFieldValues() {
+        assertEquals(ALICE.getName().fullName, columnarAddressBook.getName(0));
+        assertEquals(ALICE.getPhone().value, columnarAddressBook.getPhone(0));
+        assertEquals(ALICE.getEmail().value, columnarAddressBook.getEmail(0));
+        assertEquals(BENSON.getAddress().value, columnarAddressBook.getAddress(1));
+        assertEquals(BENSON.getRemark().value, columnarAddressBook.getRemark(1));
+        assertSame(ModeOfContact.ADDRESS, columnarAddressBook.getModeOfContact(1));
+        assertEquals(BENSON.getTags(), columnarAddressBook.getTags(1));
+        assertFalse(columnarAddressBook.isBlacklisted(0));
+        int size = columnarAddressBook.size();
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.isBlacklisted(size));
+    }
+
+    @Test
+    public void findByBlacklistStatus_typicalPersons_returnsMatchingPositions() {
+        BitSet blacklisted = columnarAddressBook.findByBlacklistStatus(true);
+        BitSet notBlacklisted = columnarAddressBook.findByBlacklistStatus(false);
+
+        for (int i = 0; i < columnarAddressBook.size(); i++) {
+            boolean isBlacklisted = getTypicalPersons().get(i).getBlacklistStatus();
+            assertEquals(isBlacklisted, blacklisted.get(i));
+            assertEquals(!isBlacklisted, notBlacklisted.get(i));
+        }
+        assertEquals(columnarAddressBook.size(), blacklisted.cardinality() + notBlacklisted.cardinality());
+    }
+
+    @Test
+    public void findByModeOfContact_typicalPersons_returnsMatchingPositions() {
+        BitSet phone = columnarAddressBook.findByModeOfContact(ModeOfContact.PHONE);
+        for (int i = 0; i < columnarAddressBook.size(); i++) {
+            assertEquals(getTypicalPersons().get(i).getModeOfContact().equals(ModeOfContact.PHONE), phone.get(i));
+        }
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(columnarAddressBook.equals(columnarAddressBook));
+        assertTrue(columnarAddressBook.equals(new ColumnarAddressBook(getTypicalPersons())));
+        assertFalse(columnarAddressBook.equals(new ColumnarAddressBook(Collections.emptyList())));
+        assertFalse(columnarAddressBook.equals(null));
+        assertFalse(columnarAddressBook.equals(getTypicalAddressBook()));
+    }
+}
@@ -5,8 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,8 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.CssSettings;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -107,6 +114,40 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void setFilteredPerson_filteredList_replacesListedPerson() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson", "Carl")));
+
+        Person editedCarl = new PersonBuilder(CARL).withRemark("Moved away").build();
+        modelManager.setFilteredPerson(INDEX_SECOND_PERSON, editedCarl);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_smallAddressBook_appliedAtOnce() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(modelManager.getPersonIndex().filter(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Meier")), person -> !person.getBlacklistStatus())));
+        assertFalse(modelManager.isFilteredPersonListPending());
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deleteFilteredPerson_filteredList_deletesListedPerson() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Carl")));
+
+        modelManager.deleteFilteredPerson(INDEX_FIRST_PERSON);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
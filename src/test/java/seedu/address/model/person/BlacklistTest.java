@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -29,4 +30,11 @@ public class BlacklistTest {
         Blacklist differentBlacklist = new Blacklist(true);
         assertFalse(blacklist.equals(differentBlacklist));
     }
+
+    @Test
+    public void of_returnsSharedInstances() {
+        assertSame(Blacklist.BLACKLISTED, Blacklist.of(true));
+        assertSame(Blacklist.NOT_BLACKLISTED, Blacklist.of(false));
+        assertSame(Blacklist.BLACKLISTED, Blacklist.of(false).toggleStatus());
+    }
 }
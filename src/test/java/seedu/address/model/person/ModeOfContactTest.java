@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ModeOfContactTest {
+
+    @Test
+    public void constructor_invalidModeOfContact_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ModeOfContact("fax"));
+    }
+
+    @Test
+    public void of_validModeOfContact_returnsSharedInstance() {
+        assertSame(ModeOfContact.PHONE, ModeOfContact.of("phone"));
+        assertSame(ModeOfContact.ADDRESS, ModeOfContact.of("address"));
+        assertSame(ModeOfContact.EMAIL, ModeOfContact.of("email"));
+        assertEquals(new ModeOfContact("email"), ModeOfContact.of("email"));
+    }
+
+    @Test
+    public void of_invalidModeOfContact_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> ModeOfContact.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ModeOfContact.of("Email"));
+    }
+
+    @Test
+    public void isValidModeOfContact() {
+        assertTrue(ModeOfContact.isValidModeOfContact("phone"));
+        assertFalse(ModeOfContact.isValidModeOfContact(""));
+        assertFalse(ModeOfContact.isValidModeOfContact("phone email"));
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListDeltaTest {
+
+    private final List<Person> before = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+
+    @Test
+    public void between_sameList_returnsEmptyDelta() {
+        assertTrue(PersonListDelta.between(before, new ArrayList<>(before)).isEmpty());
+    }
+
+    @Test
+    public void between_personReplaced_returnsOnlyThatPerson() {
+        Person editedBenson = new PersonBuilder(BENSON).build();
+        List<Person> after = Arrays.asList(ALICE, editedBenson, CARL, DANIEL);
+        PersonListDelta expectedDelta = new PersonListDelta(1, Collections.singletonList(BENSON),
+                Collections.singletonList(editedBenson));
+        assertEquals(expectedDelta, PersonListDelta.between(before, after));
+    }
+
+    @Test
+    public void between_personAppended_returnsOnlyAddedPerson() {
+        List<Person> after = Arrays.asList(ALICE, BENSON, CARL, DANIEL, HOON);
+        PersonListDelta delta = PersonListDelta.between(before, after);
+        assertEquals(new PersonListDelta(4, Collections.emptyList(), Collections.singletonList(HOON)), delta);
+        assertEquals(1, delta.size());
+    }
+
+    @Test
+    public void applyTo_rangeRemoved_producesAfterList() {
+        List<Person> after = Arrays.asList(ALICE, DANIEL);
+        List<Person> persons = new ArrayList<>(before);
+        PersonListDelta.between(before, after).applyTo(persons);
+        assertEquals(after, persons);
+    }
+
+    @Test
+    public void invert_appliedAfterDelta_restoresBeforeList() {
+        List<Person> after = Arrays.asList(ALICE, HOON, DANIEL);
+        List<Person> persons = new ArrayList<>(before);
+        PersonListDelta delta = PersonListDelta.between(before, after);
+        delta.applyTo(persons);
+        delta.invert().applyTo(persons);
+        assertEquals(before, persons);
+    }
+
+    @Test
+    public void between_scatteredReplacements_onlyReplacedPersonsKept() {
+        List<Person> longBefore = createPersons(1000);
+        List<Person> after = new ArrayList<>(longBefore);
+        for (int i = 0; i < after.size(); i += 100) {
+            after.set(i, new PersonBuilder(after.get(i)).withRemark("edited").build());
+        }
+
+        PersonListDelta delta = PersonListDelta.between(longBefore, after);
+        assertEquals(10, delta.getRuns().size());
+        assertEquals(20, delta.size());
+        assertRoundTrip(longBefore, after, delta);
+    }
+
+    @Test
+    public void between_scatteredRemovalsAndAdditions_onlyChangedPersonsKept() {
+        List<Person> longBefore = createPersons(1000);
+        List<Person> after = new ArrayList<>(longBefore);
+        for (int i = after.size() - 1; i >= 0; i -= 100) {
+            after.remove(i);
+        }
+        after.add(500, HOON);
+
+        PersonListDelta delta = PersonListDelta.between(longBefore, after);
+        assertEquals(11, delta.size());
+        assertRoundTrip(longBefore, after, delta);
+    }
+
+    @Test
+    public void between_personsMoved_producesAfterList() {
+        List<Person> longBefore = createPersons(100);
+        List<Person> reversed = new ArrayList<>(longBefore);
+        Collections.reverse(reversed);
+        assertRoundTrip(longBefore, reversed, PersonListDelta.between(longBefore, reversed));
+
+        List<Person> rotated = new ArrayList<>(longBefore.subList(1, 100));
+        rotated.add(longBefore.get(0));
+        rotated.remove(50);
+        PersonListDelta delta = PersonListDelta.between(longBefore, rotated);
+        assertEquals(3, delta.size());
+        assertRoundTrip(longBefore, rotated, delta);
+    }
+
+    @Test
+    public void changesValues() {
+        Person equalBenson = new PersonBuilder(BENSON).build();
+        assertFalse(PersonListDelta.between(before, Arrays.asList(ALICE, equalBenson, CARL, DANIEL)).changesValues());
+        assertTrue(PersonListDelta.between(before, Arrays.asList(ALICE, CARL, DANIEL)).changesValues());
+    }
+
+    private static void assertRoundTrip(List<Person> before, List<Person> after, PersonListDelta delta) {
+        List<Person> persons = new ArrayList<>(before);
+        delta.applyTo(persons);
+        assertEquals(after, persons);
+        delta.invert().applyTo(persons);
+        assertEquals(before, persons);
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+}
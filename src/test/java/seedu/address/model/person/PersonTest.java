@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -87,5 +88,14 @@ public class PersonTest {
         // different tags -> returns false
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
+
+        // different blacklist status -> returns false
+        assertFalse(ALICE.equals(ALICE.toggleBlacklistStatus()));
+    }
+
+    @Test
+    public void hashCode_sameValues_returnsSameHashCode() {
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.toggleBlacklistStatus().toggleBlacklistStatus().hashCode());
     }
 }
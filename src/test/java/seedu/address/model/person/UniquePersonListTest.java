@@ -11,14 +11,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -27,6 +31,11 @@ public class UniquePersonListTest {
 
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
+    @BeforeEach
+    public void setUp() {
+        uniquePersonList.setConsistencyChecking(true);
+    }
+
     @Test
     public void contains_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
@@ -128,6 +137,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
     }
 
+    @Test
+    public void setPersonAt_validPosition_replacesPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedBob = new PersonBuilder(BOB).withEmail("bobby@example.com").build();
+        uniquePersonList.setPersonAt(1, editedBob);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, editedBob));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersonAt_editedPersonHasNonUniqueEmail_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersonAt(0, editedAlice));
+    }
+
+    @Test
+    public void setPersonAt_invalidPosition_throwsIndexOutOfBoundsException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.setPersonAt(1, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -146,6 +179,72 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAt_validPosition_removesPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.removeAt(0);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeRange_invalidRange_throwsIndexOutOfBoundsException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.removeRange(0, 2));
+    }
+
+    @Test
+    public void removeRange_validRange_removesPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, AMY));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changes.add(change));
+
+        uniquePersonList.removeRange(0, 2);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(AMY);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void updateRange_blacklistAll_replacesPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, AMY));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changes.add(change));
+
+        uniquePersonList.updateRange(1, 3, Person::toggleBlacklistStatus);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB.toggleBlacklistStatus(),
+                AMY.toggleBlacklistStatus()));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void updatePersons_swapEmails_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.updatePersons(new int[] {0, 1}, person -> new PersonBuilder(person)
+                .withEmail(person == ALICE ? BOB.getEmail().value : ALICE.getEmail().value).build());
+        assertEquals(ALICE.getName(), uniquePersonList.asUnmodifiableObservableList().get(0).getName());
+        assertEquals(BOB.getEmail(), uniquePersonList.asUnmodifiableObservableList().get(0).getEmail());
+    }
+
+    @Test
+    public void updatePersons_resultsInDuplicate_throwsDuplicatePersonExceptionWithoutChanges() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, AMY));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(new int[] {1},
+            person -> new PersonBuilder(person).withEmail(AMY.getEmail().value).build()));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, AMY));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -181,6 +280,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsAllDuplicateEmails() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BOB, ALICE);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(ALICE.getEmail(), BOB.getEmail()))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void sortByName_ascendingOrder_success() {
         uniquePersonList.add(BOB);
@@ -199,6 +308,39 @@ public class UniquePersonListTest {
         assertEquals(BOB, uniquePersonList.asUnmodifiableObservableList().get(0));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personEditedToDifferentEmail_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void remove_personWithSameEmailButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void isIndexConsistent_afterMutations_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.sortByName(SORT_DESCENDING);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPersons(Arrays.asList(BOB, ALICE));
+        assertTrue(uniquePersonList.isIndexConsistent());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
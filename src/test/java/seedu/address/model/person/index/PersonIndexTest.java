@@ -0,0 +1,204 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ModeOfContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ModeOfContactPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PersonBlacklistedPredicate;
+import seedu.address.model.person.predicates.PersonTagContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PhoneContainsNumbersPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndex index = new PersonIndex(persons);
+
+    @Test
+    public void findAny_differentCase_matchesWholeWords() {
+        BitSet expected = new BitSet();
+        expected.set(index.getId(ALICE));
+        assertEquals(expected, index.getNameIndex().findAny(Arrays.asList("aLIce", "Paul")));
+    }
+
+    @Test
+    public void findCandidates_gramsInDifferentOrder_verifiedByPredicate() {
+        Person scrambled = new PersonBuilder().withPhone("1234999345").build();
+        persons.add(scrambled);
+        PhoneContainsNumbersPredicate predicate = new PhoneContainsNumbersPredicate(Collections.singletonList("12345"));
+
+        BitSet candidates = index.getPhoneIndex().findCandidates(Collections.singletonList("12345"));
+        assertTrue(candidates.get(index.getId(scrambled)));
+        assertTrue(predicate.findMatches(index).isEmpty());
+        assertFalse(predicate.test(scrambled));
+    }
+
+    @Test
+    public void findMatches_substringKeywords_sameResultAsPredicate() {
+        List<IndexablePredicate> predicates = Arrays.asList(
+                new PhoneContainsNumbersPredicate(Arrays.asList("948", "25")),
+                new PhoneContainsNumbersPredicate(Collections.singletonList("9876543")),
+                new EmailContainsKeywordsPredicate(Arrays.asList("EXAMPLE", "li")),
+                new EmailContainsKeywordsPredicate(Collections.singletonList("heinz@")),
+                new EmailContainsKeywordsPredicate(Collections.singletonList("nobody")));
+        for (IndexablePredicate predicate : predicates) {
+            assertEquals(filter(predicate), filter(index.filter(Collections.singletonList(predicate))));
+        }
+    }
+
+    @Test
+    public void filter_sameResultAsPredicates() {
+        List<Predicate<Person>> predicates = Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Kurz")),
+                new PersonTagContainsKeywordsPredicate(Collections.singletonList("FRIENDS")),
+                new AddressContainsKeywordsPredicate(Arrays.asList("ave", "street")),
+                new PersonBlacklistedPredicate(false));
+        Predicate<Person> expected = predicates.stream().reduce(unused -> true, Predicate::and);
+
+        assertEquals(filter(expected), filter(index.filter(predicates)));
+        assertEquals(Arrays.asList(BENSON, DANIEL), filter(index.filter(predicates)));
+    }
+
+    @Test
+    public void filter_blacklistAndModeOfContact_combinesBitSets() {
+        Person blacklistedEmailRecipient = new PersonBuilder(ELLE).withBlacklist(true).build();
+        persons.set(persons.indexOf(ELLE), blacklistedEmailRecipient);
+
+        List<Predicate<Person>> predicates = Arrays.asList(new PersonBlacklistedPredicate(false),
+                new ModeOfContactPredicate(new ModeOfContact("email")));
+        assertEquals(Collections.singletonList(ALICE), filter(index.filter(predicates)));
+    }
+
+    @Test
+    public void filter_personsChangedAfterLookup_changedPersonsTested() {
+        Predicate<Person> meierFilter = index.filter(
+                Collections.singletonList(new NameContainsKeywordsPredicate(Collections.singletonList("meier"))));
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        persons.set(persons.indexOf(CARL), editedCarl);
+        persons.remove(BENSON);
+
+        assertTrue(meierFilter.test(editedCarl));
+        assertEquals(-1, index.getId(BENSON));
+        assertEquals(Arrays.asList(editedCarl, DANIEL), filter(index.filter(
+                Collections.singletonList(new NameContainsKeywordsPredicate(Collections.singletonList("meier"))))));
+    }
+
+    @Test
+    public void filter_afterRenumbering_sameResultAsPredicate() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("alice"));
+        Predicate<Person> aliceFilter = index.filter(Collections.singletonList(predicate));
+        int generation = index.getGeneration();
+
+        for (int i = 0; i < 2000; i++) {
+            persons.set(1, new PersonBuilder(BENSON).withRemark("remark " + i).build());
+        }
+
+        assertNotEquals(generation, index.getGeneration());
+        assertEquals(filter(predicate), filter(aliceFilter));
+        assertEquals(filter(predicate), filter(index.filter(Collections.singletonList(predicate))));
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void precompute_largeList_sameResultAsPredicate() throws Exception {
+        addPersons(100);
+        PersonIndex parallelIndex = new PersonIndex(persons, 0);
+        Predicate<Person> predicate = person -> person.getName().fullName.endsWith("7");
+
+        Predicate<Person> precomputed = parallelIndex.precompute(predicate).get();
+        assertEquals(filter(predicate), filter(precomputed));
+
+        Person addedLater = new PersonBuilder().withName("Person 1007").withEmail("late@example.com").build();
+        persons.add(addedLater);
+        assertTrue(precomputed.test(addedLater));
+    }
+
+    @Test
+    public void precompute_listChangedWhileTesting_doesNotWaitAndCoversChange() throws Exception {
+        addPersons(100);
+        PersonIndex parallelIndex = new PersonIndex(persons, 0);
+        CountDownLatch released = new CountDownLatch(1);
+        Predicate<Person> predicate = person -> {
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            return person.getName().fullName.endsWith("7");
+        };
+
+        CompletableFuture<Predicate<Person>> precomputed = parallelIndex.precompute(predicate);
+        assertFalse(precomputed.isDone());
+        Person addedLater = new PersonBuilder().withName("Person 1007").withEmail("late@example.com").build();
+        persons.add(addedLater);
+        persons.remove(ALICE);
+        released.countDown();
+
+        assertEquals(filter(predicate), filter(precomputed.get()));
+    }
+
+    @Test
+    public void precompute_planFilter_testsOnlyCandidatesInParallel() throws Exception {
+        addPersons(100);
+        PersonIndex parallelIndex = new PersonIndex(persons, 0);
+        AtomicInteger testedCount = new AtomicInteger();
+        Predicate<Person> unindexedPredicate = person -> {
+            testedCount.incrementAndGet();
+            return person.getName().fullName.endsWith("7");
+        };
+        List<Predicate<Person>> predicates = Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Person")), unindexedPredicate);
+
+        Predicate<Person> planned = parallelIndex.plan(predicates).execute();
+        assertEquals(0, testedCount.get());
+        Predicate<Person> precomputed = parallelIndex.precompute(planned).get();
+        assertEquals(100, testedCount.get());
+
+        testedCount.set(0);
+        assertEquals(filter(person -> person.getName().fullName.matches("Person .*7")), filter(precomputed));
+        assertEquals(0, testedCount.get());
+    }
+
+    @Test
+    public void precompute_smallList_predicateUnchanged() {
+        Predicate<Person> predicate = person -> true;
+        assertEquals(predicate, index.precompute(predicate).getNow(null));
+    }
+
+    private void addPersons(int count) {
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com").build());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PersonBlacklistedPredicate;
+import seedu.address.model.person.predicates.PhoneContainsNumbersPredicate;
+import seedu.address.model.person.predicates.ReturnTruePredicate;
+
+public class QueryPlanTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndex index = new PersonIndex(persons);
+
+    @Test
+    public void execute_mostSelectiveFirst_restTestedOnCandidates() {
+        QueryPlan plan = index.plan(Arrays.asList(new PersonBlacklistedPredicate(false), new ReturnTruePredicate(),
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier"))));
+
+        List<Person> result = persons.stream().filter(plan.execute()).collect(Collectors.toList());
+        assertEquals(Arrays.asList(BENSON, DANIEL), result);
+
+        String explanation = plan.explain();
+        assertTrue(explanation.contains("1 always-true predicate(s) dropped"));
+        assertTrue(explanation.contains("1. look up NameContainsKeywordsPredicate (estimated 2, matched 2)"));
+        assertTrue(explanation.contains("2. test PersonBlacklistedPredicate on 2 candidate(s) (estimated 5)"));
+        assertTrue(explanation.contains("Result: 2 candidate(s) left to test"));
+    }
+
+    @Test
+    public void execute_onlyExactLookups_resultTested() {
+        QueryPlan plan = index.plan(Collections.singletonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier"))));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), persons.stream().filter(plan.execute())
+                .collect(Collectors.toList()));
+        assertTrue(plan.explain().contains("Result: 2 person(s)"));
+    }
+
+    @Test
+    public void execute_shortPhoneNumber_candidatesLeftToTest() {
+        QueryPlan plan = index.plan(Collections.singletonList(
+                new PhoneContainsNumbersPredicate(Collections.singletonList("95"))));
+
+        List<Person> result = persons.stream().filter(plan.execute()).collect(Collectors.toList());
+        assertEquals(persons.stream().filter(person -> person.getPhone().value.contains("95"))
+                .collect(Collectors.toList()), result);
+
+        String explanation = plan.explain();
+        assertTrue(explanation.contains("1. look up PhoneContainsNumbersPredicate (estimated 8, found candidates 8)"));
+        assertTrue(explanation.contains("Result: 8 candidate(s) left to test"));
+    }
+
+    @Test
+    public void execute_onlyAlwaysTruePredicates_matchesEveryone() {
+        QueryPlan plan = index.plan(Arrays.asList(new ReturnTruePredicate(), new ReturnTruePredicate()));
+        assertEquals(persons, persons.stream().filter(plan.execute()).collect(Collectors.toList()));
+    }
+}
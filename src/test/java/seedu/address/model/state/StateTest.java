@@ -1,11 +1,16 @@
 package seedu.address.model.state;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADD_WORD;
 import static seedu.address.logic.commands.CommandTestUtil.DUMMY_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMPTY_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMPTY_LIST;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,4 +65,85 @@ public class StateTest {
         assertEquals(EMPTY_LIST, previousState2.getAddressBook().toString());
         assertEquals(EMPTY_COMMAND, previousState2.getCurrentCommand());
     }
+
+    @Test
+    public void deleteCurrentState_scatteredChanges_returnsToEarlierState() {
+        AddressBook changed = getTypicalAddressBook();
+        changed.updatePersons(new int[] {0, 3, 6}, person -> person.toggleBlacklistStatus());
+        changed.removePersons(new int[] {1, 5});
+        state.addState(changed, DUMMY_COMMAND);
+        assertEquals(getTypicalAddressBook(), state.getPreviousState().getAddressBook());
+
+        state.deleteCurrentState();
+        assertEquals(getTypicalAddressBook(), state.getCurrentAddressBook());
+        state.restoreDeletedState();
+        assertEquals(changed, state.getCurrentAddressBook());
+    }
+
+    @Test
+    public void addState_bookMutatedAfterwards_stateUnchanged() {
+        AddressBook mutableBook = getTypicalAddressBook();
+        state.addState(mutableBook, DUMMY_COMMAND);
+        mutableBook.removePerson(ALICE);
+        assertEquals(getTypicalAddressBook(), state.getCurrentAddressBook());
+    }
+
+    @Test
+    public void isCurrentState() {
+        assertTrue(state.isCurrentState(getTypicalAddressBook()));
+        assertFalse(state.isCurrentState(new AddressBook()));
+        assertFalse(new State().isCurrentState(new AddressBook()));
+    }
+
+    @Test
+    public void isCurrentState_addressBookModifiedAfterAddState_detectsChange() {
+        assertTrue(state.isCurrentState(addressBook));
+
+        addressBook.addPerson(AMY);
+        assertFalse(state.isCurrentState(addressBook));
+
+        addressBook.removePerson(AMY);
+        assertTrue(state.isCurrentState(addressBook));
+    }
+
+    @Test
+    public void deleteCurrentState_thenRestore_returnsToLatestState() {
+        AddressBook withAmy = getTypicalAddressBook();
+        withAmy.addPerson(AMY);
+        state.addState(withAmy, ADD_WORD);
+
+        state.deleteCurrentState();
+        assertEquals(addressBook, state.getCurrentAddressBook());
+        assertEquals(EMPTY_COMMAND, state.getCurrentCommand());
+        assertFalse(state.canUndo());
+        assertTrue(state.canRedo());
+        assertEquals(ADD_WORD, state.getDeletedCommand());
+
+        state.restoreDeletedState();
+        assertEquals(withAmy, state.getCurrentAddressBook());
+        assertEquals(ADD_WORD, state.getCurrentCommand());
+        assertTrue(state.canUndo());
+        assertFalse(state.canRedo());
+    }
+
+    @Test
+    public void addState_afterDeleteCurrentState_clearsDeletedStates() {
+        state.addState(new AddressBook(), DUMMY_COMMAND);
+        state.deleteCurrentState();
+        state.addState(new AddressBook(), ADD_WORD);
+        assertFalse(state.canRedo());
+        assertNull(state.getDeletedCommand());
+    }
+
+    @Test
+    public void addState_beyondHistoryLimit_discardsOldestState() {
+        State limitedState = new State(1);
+        limitedState.addState(addressBook, EMPTY_COMMAND);
+        limitedState.addState(new AddressBook(), DUMMY_COMMAND);
+        limitedState.addState(addressBook, ADD_WORD);
+
+        limitedState.deleteCurrentState();
+        assertEquals(DUMMY_COMMAND, limitedState.getCurrentCommand());
+        assertFalse(limitedState.canUndo());
+    }
 }
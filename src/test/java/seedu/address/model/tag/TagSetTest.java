@@ -0,0 +1,63 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_emptyCollection_returnsSharedEmptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tags = TagSet.of(Set.of(Tag.of("friends")));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void of_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void of_smallAndLargeSets_matchHashSet() {
+        for (int size : new int[] {1, 3, 8, 9, 20}) {
+            List<Tag> tags = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                tags.add(Tag.of("tag" + i));
+            }
+            tags.add(Tag.of("tag0")); // duplicates are dropped
+            Set<Tag> expected = new HashSet<>(tags);
+            TagSet tagSet = TagSet.of(tags);
+
+            assertEquals(expected, tagSet);
+            assertEquals(tagSet, expected);
+            assertEquals(expected.hashCode(), tagSet.hashCode());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(tagSet));
+            assertTrue(tagSet.contains(new Tag("tag" + (size - 1))));
+            assertFalse(tagSet.contains(Tag.of("other")));
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(Tag.of("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(Tag.of("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(Tag.of("other")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_addressBookModifiedAfterSave_writesSnapshot() throws Exception {
+        RecordingStorageStub recordingStorage = new RecordingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+        recordingStorage.blockNextSave();
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        recordingStorage.unblock();
+        storage.close();
+        assertEquals(List.of(expected), recordingStorage.saved);
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalesced() throws Exception {
+        RecordingStorageStub recordingStorage = new RecordingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+        recordingStorage.blockNextSave();
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        AddressBook first = new AddressBook(addressBook);
+        recordingStorage.awaitBlockedSave();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.unblock();
+        storage.flush();
+
+        assertEquals(List.of(first, addressBook), recordingStorage.saved);
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReportedOnce() throws Exception {
+        List<IOException> handledFailures = new ArrayList<>();
+        IOException failure = new IOException("dummy exception");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(failingStorage, handledFailures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+        assertEquals(List.of(failure), handledFailures);
+
+        // failure has already been reported
+        storage.flush();
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_failureNotThrown() throws Exception {
+        List<IOException> handledFailures = new ArrayList<>();
+        IOException failure = new IOException("dummy exception");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(failingStorage, handledFailures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook(); // waits for the write to fail
+        assertEquals(List.of(failure), handledFailures);
+
+        // the failure is only thrown when flushing, not by the unrelated save that follows
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storage::close);
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_throwsException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.close();
+        assertThrows(RuntimeException.class, () -> storage.saveAddressBook(getTypicalAddressBook()));
+    }
+
+    /**
+     * A stub that records every address book it saves, and can hold back a save until it is unblocked.
+     */
+    private static class RecordingStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private CountDownLatch started = new CountDownLatch(0);
+        private CountDownLatch released = new CountDownLatch(0);
+
+        private RecordingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        void blockNextSave() {
+            started = new CountDownLatch(1);
+            released = new CountDownLatch(1);
+        }
+
+        void awaitBlockedSave() throws InterruptedException {
+            started.await();
+        }
+
+        void unblock() {
+            released.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            saved.add(new AddressBook(addressBook));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ColumnarAddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_typicalPersons_readIntoColumns() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertTrue(readBack instanceof ColumnarAddressBook);
+        assertEquals(ALICE.getEmail().value, ((ColumnarAddressBook) readBack).getEmail(0));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        ObservableList<Person> duplicates = FXCollections.observableArrayList(ALICE,
+                new PersonBuilder(ALICE).withName("Alice Duplicate").build());
+        storage.saveAddressBook(new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return duplicates;
+            }
+
+            @Override
+            public long getModificationCount() {
+                return 0;
+            }
+        });
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(new PersonBuilder(HOON).withAddress("Stra\u00dfe 5, \u6771\u4eac").withRemark("").build());
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withBlacklist(true).build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_mappedRead_sameAsArrayRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage mappedStorage = new BinaryAddressBookStorage(filePath, 0);
+        BinaryAddressBookStorage arrayStorage = new BinaryAddressBookStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+
+        mappedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(mappedStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(arrayStorage.readAddressBook().get()));
+
+        // the file can still be replaced after it has been read
+        mappedStorage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(mappedStorage.readAddressBook().get()));
+
+        byte[] damaged = Files.readAllBytes(filePath);
+        damaged[damaged.length - 1] ^= 1;
+        Files.write(FileAddressBookStorage.getBackupFilePath(filePath), damaged);
+        Files.write(filePath, damaged);
+        assertThrows(DataConversionException.class, mappedStorage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void convertToJsonAndBack_typicalPersons_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("a.bin"));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("a.json"));
+
+        binaryStorage.saveAddressBook(original);
+        jsonStorage.saveAddressBook(binaryStorage.readAddressBook().get());
+        binaryStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        // flipped byte
+        byte[] damaged = content.clone();
+        damaged[damaged.length / 2] ^= 1;
+        Files.write(filePath, damaged);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        // truncated file
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        // not a binary address book
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        FileUtil.writeToFile(filePath, "damaged");
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class ImportingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path binaryFilePath;
+    private Path jsonFilePath;
+    private ImportingAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        binaryFilePath = testFolder.resolve("addressbook.bin");
+        jsonFilePath = testFolder.resolve("addressbook.json");
+        storage = new ImportingAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath),
+                new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_noData_emptyResult() throws Exception {
+        assertEquals(Optional.empty(), storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_importDataNewer_importsData() throws Exception {
+        AddressBook imported = getTypicalAddressBook();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(new AddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(imported);
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(0));
+
+        assertEquals(imported, new AddressBook(storage.readAddressBook().get()));
+
+        // the imported data is saved in the new format
+        imported.addPerson(HOON);
+        storage.saveAddressBook(imported);
+        assertEquals(imported, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+        assertEquals(imported, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_importDataOlder_readsData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_throughStorageManager_importsData() throws Exception {
+        AddressBook imported = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(imported);
+        BackgroundAddressBookStorage backgroundStorage = new BackgroundAddressBookStorage(
+                new ImportingAddressBookStorage(
+                        new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath)),
+                        new JournaledAddressBookStorage(new JsonAddressBookStorage(jsonFilePath))));
+        StorageManager storageManager = new StorageManager(backgroundStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+
+        assertEquals(imported, new AddressBook(storageManager.readAddressBook().get()));
+        backgroundStorage.close();
+    }
+}
@@ -0,0 +1,270 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_doesNotWriteJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_changesAppendedToJournal_replaysJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Changed").build());
+        storage.saveAddressBook(original);
+
+        // a header and one line per save
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        JournaledAddressBookStorage newStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(newStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_scatteredChangesAppendedToJournal_replaysJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.updatePersons(new int[] {0, 3, 6}, person -> person.toggleBlacklistStatus());
+        original.removePersons(new int[] {1, 5});
+        storage.saveAddressBook(original);
+
+        String entry = Files.readAllLines(journalFilePath).get(1);
+        assertEquals(4, entry.split("\\{\"from\"").length);
+        JournaledAddressBookStorage newStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(newStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_runOutOfOrder_throwsDataConversionException() throws Exception {
+        saveWithJournal();
+        FileUtil.appendToFile(journalFilePath, "{\"runs\":[{\"from\":2,\"removed\":1,\"added\":[]},"
+                + "{\"from\":1,\"removed\":1,\"added\":[]}]}" + System.lineSeparator());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournal_throwsDataConversionException() throws Exception {
+        saveWithJournal();
+        FileUtil.appendToFile(journalFilePath, "{\"runs\":[{\"from\":100,\"removed\":1,\"added\":[]}]}"
+                + System.lineSeparator());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastLine_discardsLastLine() throws Exception {
+        AddressBook original = saveWithJournal();
+        long journalSize = Files.size(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, "{\"runs\":[{\"from\":0,\"removed\":1,\"added\":[]}]}");
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(journalSize, Files.size(journalFilePath));
+
+        // later saves continue the journal after the last complete line
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unparseableLastLine_discardsLastLine() throws Exception {
+        AddressBook original = saveWithJournal();
+        long journalSize = Files.size(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, "{\"runs\":[{\"from\":0,\"rem" + System.lineSeparator());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(journalSize, Files.size(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_unparseableLineBeforeLastLine_throwsDataConversionException() throws Exception {
+        saveWithJournal();
+        FileUtil.appendToFile(journalFilePath, "{\"runs\":[{\"from\":0,\"rem" + System.lineSeparator()
+                + "{\"runs\":[]}" + System.lineSeparator());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_snapshotReadFromBackup_journalNotReplayed() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook); // compacts, keeping the first snapshot as the backup
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook); // journaled against the second snapshot
+
+        FileUtil.writeToFile(filePath, "damaged");
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        // the backup is read as is, as the journal does not belong to it
+        assertEquals(getTypicalAddressBook(), new AddressBook(newStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotFails_journalKept() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        boolean[] isFailing = {false};
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook lastSaved = new AddressBook(addressBook);
+
+        isFailing[0] = true;
+        addressBook.removePerson(ALICE);
+        assertThrows(IOException.class, failure.getMessage(), () -> storage.saveAddressBook(addressBook));
+
+        assertTrue(Files.exists(journalFilePath));
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(lastSaved, new AddressBook(newStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBehindByCompaction_journalNotReplayed() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        byte[] oldJournal = Files.readAllBytes(journalFilePath);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook); // compacts
+
+        // as if the app stopped after writing the new snapshot but before deleting the old journal
+        Files.write(journalFilePath, oldJournal);
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(addressBook, new AddressBook(newStorage.readAddressBook().get()));
+
+        // the next save starts a new journal against the new snapshot
+        addressBook.removePerson(ALICE);
+        newStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get()));
+    }
+
+    /**
+     * Saves the typical address book, then saves it with {@code HOON} added so that the addition is journaled.
+     * Returns the address book as last saved.
+     */
+    private AddressBook saveWithJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+        return addressBook;
+    }
+}
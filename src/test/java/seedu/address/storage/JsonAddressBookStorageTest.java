@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +64,91 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataConversionException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        // the serialized persons are followed by the checksum
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(FileUtil.readFromFile(filePath).startsWith(
+                withoutClosingBrace(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)))));
+
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+        assertTrue(FileUtil.readFromFile(filePath).startsWith(
+                withoutClosingBrace(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)))));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static String withoutClosingBrace(String json) {
+        return json.substring(0, json.lastIndexOf(']') + 1);
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_keptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        assertEquals(modified, storage.readAddressBook().get());
+        assertEquals(original, storage.readAddressBook(FileAddressBookStorage.getBackupFilePath(filePath)).get());
+        assertFalse(Files.exists(FileAddressBookStorage.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+        String content = FileUtil.readFromFile(filePath);
+
+        // truncated file
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+        assertEquals(original, storage.readAddressBook().get());
+
+        // valid Json that does not match its checksum
+        FileUtil.writeToFile(filePath, content.replace(HOON.getName().fullName, ALICE.getName().fullName + "x"));
+        assertEquals(original, storage.readAddressBook().get());
+
+        // file missing after an interrupted save
+        Files.delete(filePath);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithoutBackup_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String content = FileUtil.readFromFile(filePath);
+
+        FileUtil.writeToFile(filePath, content.replace(ALICE.getName().fullName, ALICE.getName().fullName + "x"));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -40,8 +40,9 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                "alice@example.com");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }